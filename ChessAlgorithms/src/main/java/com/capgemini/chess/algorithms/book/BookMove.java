@@ -0,0 +1,28 @@
+package com.capgemini.chess.algorithms.book;
+
+import com.capgemini.chess.algorithms.data.Move;
+
+/**
+ * Move found in the opening book together with its weight. Moves with higher
+ * weights were played more often in games the book was built from.
+ *
+ */
+public class BookMove {
+
+	private final Move move;
+	private final int weight;
+
+	public BookMove(Move move, int weight) {
+		this.move = move;
+		this.weight = weight;
+	}
+
+	public Move getMove() {
+		return move;
+	}
+
+	public int getWeight() {
+		return weight;
+	}
+
+}
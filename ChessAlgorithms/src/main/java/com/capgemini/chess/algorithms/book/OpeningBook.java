@@ -0,0 +1,147 @@
+package com.capgemini.chess.algorithms.book;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Reader of opening book files. Book file is a sequence of 16-byte entries
+ * in Polyglot layout (big-endian): 64-bit position key, 16-bit move, 16-bit
+ * weight and 32-bit learn value, sorted by key compared as unsigned number.
+ * Positions are keyed by {@link Board#getZobristKey()}, so books are
+ * created with {@link OpeningBookBuilder}.
+ *
+ * File is memory-mapped and entries are searched with binary search reading
+ * the mapping directly, nothing is copied to the heap. Only absolute reads
+ * are used, so one book can be used by many threads at once.
+ *
+ */
+public class OpeningBook implements Closeable {
+
+	static final int ENTRY_SIZE = 16;
+
+	private static final int MOVE_OFFSET = 8;
+	private static final int WEIGHT_OFFSET = 10;
+	private static final int PROMOTION_TO_QUEEN = 4;
+
+	private final FileChannel channel;
+	private final ByteBuffer entries;
+	private final int entryCount;
+
+	/**
+	 * Opens and memory-maps book file
+	 *
+	 * @param file book file
+	 * @throws IOException if file cannot be opened or is not a book file
+	 */
+	public OpeningBook(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		long size = channel.size();
+		if (size % ENTRY_SIZE != 0 || size > Integer.MAX_VALUE) {
+			channel.close();
+			throw new IOException("Invalid book file size: " + size);
+		}
+		this.entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		this.entryCount = (int) (size / ENTRY_SIZE);
+	}
+
+	/**
+	 * Finds book moves for the current position of the board. Book moves
+	 * which are not legal in the position (for example because of a key
+	 * collision) are skipped.
+	 *
+	 * @param boardManager board manager with the position
+	 * @return legal book moves ordered as in the book (by descending weight),
+	 *         empty list if position is not in the book
+	 */
+	public List<BookMove> findMoves(BoardManager boardManager) {
+		Board board = boardManager.getBoard();
+		long key = board.getZobristKey();
+		List<BookMove> bookMoves = new ArrayList<>();
+		int index = findFirstEntry(key);
+		if (index == entryCount || entries.getLong(index * ENTRY_SIZE) != key) {
+			return bookMoves;
+		}
+
+		MoveList legalMoves = new MoveList();
+		boardManager.generateLegalMoves(board.getSideToMove(), legalMoves);
+		for (; index < entryCount && entries.getLong(index * ENTRY_SIZE) == key; index++) {
+			int bookMove = entries.getShort(index * ENTRY_SIZE + MOVE_OFFSET) & 0xFFFF;
+			for (int i = 0; i < legalMoves.size(); i++) {
+				int move = legalMoves.get(i);
+				if (encodeMove(move) == bookMove) {
+					int weight = entries.getShort(index * ENTRY_SIZE + WEIGHT_OFFSET) & 0xFFFF;
+					bookMoves.add(new BookMove(PackedMove.toMove(move, board), weight));
+					break;
+				}
+			}
+		}
+		return bookMoves;
+	}
+
+	/**
+	 * Gets number of entries (position and move pairs) in the book
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return entryCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Encodes move as in Polyglot books: bits 0-5 'to' field, bits 6-11
+	 * 'from' field, bits 12-14 promotion piece. Castling is encoded as move of
+	 * the king to the field of the rook.
+	 *
+	 * @param move packed move
+	 * @return encoded move
+	 */
+	static int encodeMove(int move) {
+		int from = PackedMove.getFrom(move);
+		int to = PackedMove.getTo(move);
+		if (PackedMove.getType(move) == MoveType.CASTLING) {
+			int rookX = Bitboards.x(to) > Bitboards.x(from) ? Board.SIZE - 1 : 0;
+			to = Bitboards.square(rookX, Bitboards.y(to));
+		}
+		int encoded = to | (from << 6);
+		if (PackedMove.isPromotion(move)) {
+			encoded |= PROMOTION_TO_QUEEN << 12;
+		}
+		return encoded;
+	}
+
+	/**
+	 * Finds index of the first entry with key not lower than given key
+	 */
+	private int findFirstEntry(long key) {
+		int low = 0;
+		int high = entryCount;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (Long.compareUnsigned(entries.getLong(middle * ENTRY_SIZE), key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+}
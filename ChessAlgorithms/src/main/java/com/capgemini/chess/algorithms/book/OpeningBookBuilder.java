@@ -0,0 +1,145 @@
+package com.capgemini.chess.algorithms.book;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.pgn.PgnGame;
+import com.capgemini.chess.algorithms.pgn.SanNotation;
+
+/**
+ * Builder of opening book files read by {@link OpeningBook}. Games are
+ * played on one reused board and every move of the first plies is added to
+ * the book; weight of the move is the number of games it was played in
+ * (limited to 65535). Game is added until its first illegal move.
+ *
+ * Builder is not thread safe.
+ *
+ */
+public class OpeningBookBuilder {
+
+	private static final int DEFAULT_MAX_PLY = 24;
+	private static final int MAX_WEIGHT = 0xFFFF;
+
+	private final int maxPly;
+	private final Board board = new Board();
+	private final BoardManager boardManager = new BoardManager(board);
+	private final MoveList legalMoves = new MoveList();
+	private final Map<Long, Map<Integer, Integer>> weights = new HashMap<>();
+
+	public OpeningBookBuilder() {
+		this(DEFAULT_MAX_PLY);
+	}
+
+	/**
+	 * Creates builder of the book
+	 *
+	 * @param maxPly number of plies of every game added to the book
+	 */
+	public OpeningBookBuilder(int maxPly) {
+		this.maxPly = maxPly;
+	}
+
+	/**
+	 * Adds moves of PGN game to the book
+	 *
+	 * @param game game with moves in SAN
+	 * @return number of plies added to the book
+	 */
+	public int addGame(PgnGame game) {
+		String fen = game.getFen();
+		try {
+			Fen.load(fen == null ? Fen.INITIAL_POSITION : fen, board);
+		} catch (IllegalArgumentException e) {
+			return 0;
+		}
+
+		int plyCount = 0;
+		for (String san : game.getMoves()) {
+			if (plyCount == maxPly) {
+				break;
+			}
+			boardManager.generateLegalMoves(board.getSideToMove(), legalMoves);
+			int move = SanNotation.decode(san, legalMoves);
+			if (move == PackedMove.NONE) {
+				break;
+			}
+			addMove(move);
+			plyCount++;
+		}
+		return plyCount;
+	}
+
+	/**
+	 * Adds moves played from the initial position to the book
+	 *
+	 * @param moves moves of the game
+	 * @return number of plies added to the book
+	 */
+	public int addGame(List<Move> moves) {
+		Fen.load(Fen.INITIAL_POSITION, board);
+
+		int plyCount = 0;
+		for (Move move : moves) {
+			if (plyCount == maxPly || board.getPieceAt(move.getFrom()) == null) {
+				break;
+			}
+			boardManager.generateLegalMoves(board.getSideToMove(), legalMoves);
+			int packedMove = PackedMove.fromMove(move, board);
+			if (!legalMoves.contains(packedMove)) {
+				break;
+			}
+			addMove(packedMove);
+			plyCount++;
+		}
+		return plyCount;
+	}
+
+	/**
+	 * Writes book file with all added moves. Entries are sorted by key and
+	 * moves of one position by descending weight.
+	 *
+	 * @param file book file, replaced if it exists
+	 * @return number of written entries
+	 * @throws IOException if file cannot be written
+	 */
+	public int build(Path file) throws IOException {
+		List<Long> keys = new ArrayList<>(weights.keySet());
+		keys.sort(Long::compareUnsigned);
+
+		int entryCount = 0;
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			for (Long key : keys) {
+				List<Map.Entry<Integer, Integer>> moves = new ArrayList<>(weights.get(key).entrySet());
+				moves.sort((first, second) -> Integer.compare(second.getValue(), first.getValue()));
+				for (Map.Entry<Integer, Integer> move : moves) {
+					output.writeLong(key);
+					output.writeShort(move.getKey());
+					output.writeShort(Math.min(move.getValue(), MAX_WEIGHT));
+					output.writeInt(0);
+					entryCount++;
+				}
+			}
+		}
+		return entryCount;
+	}
+
+	private void addMove(int move) {
+		weights.computeIfAbsent(board.getZobristKey(), key -> new HashMap<>()).merge(OpeningBook.encodeMove(move), 1,
+				Integer::sum);
+		board.makeMove(PackedMove.toMove(move, board));
+	}
+
+}
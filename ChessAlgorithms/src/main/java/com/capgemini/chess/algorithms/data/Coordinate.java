@@ -1,23 +1,62 @@
 package com.capgemini.chess.algorithms.data;
 
+import com.capgemini.chess.algorithms.data.generated.Board;
+
 /**
  * Coordinates of Chess Piece.
+ * Coordinates are immutable. Every field of the board has a shared instance
+ * returned by {@link #of(int, int)} and {@link #of(int)}, which is used by the
+ * engine instead of creating new objects.
  * 
  * @author Michal Bejm
  *
  */
 public class Coordinate {
 
-	private int x;
-	private int y;
+	public static final int NO_INDEX = -1;
+	
+	private static final Coordinate[] FIELDS = new Coordinate[Board.SIZE * Board.SIZE];
+	
+	static {
+		for (int index = 0; index < FIELDS.length; index++) {
+			FIELDS[index] = new Coordinate(index % Board.SIZE, index / Board.SIZE);
+		}
+	}
+
+	private final int x;
+	private final int y;
+	private final int index;
 
 	public Coordinate(int x, int y) {
 		this.x = x;
 		this.y = y;
+		this.index = isInsideBoard(x, y) ? y * Board.SIZE + x : NO_INDEX;
+	}
+	
+	/**
+	 * Gets coordinates of the field. Shared instance is returned for fields on
+	 * the board, new object is created only for coordinates outside the board.
+	 * 
+	 * @param x column
+	 * @param y row
+	 * @return coordinates
+	 */
+	public static Coordinate of(int x, int y) {
+		return isInsideBoard(x, y) ? FIELDS[y * Board.SIZE + x] : new Coordinate(x, y);
+	}
+	
+	/**
+	 * Gets shared coordinates of the field with given index
+	 * 
+	 * @param index field index (y * 8 + x) from 0 to 63
+	 * @return coordinates
+	 */
+	public static Coordinate of(int index) {
+		return FIELDS[index];
 	}
 
 	public Coordinate nextFromPath(Path path){
-		return new Coordinate(x+path.getX(),y+path.getY());
+		return of(x+path.getX(),y+path.getY());
 	}
 
 	@Override
@@ -53,4 +92,18 @@ public class Coordinate {
 		return y;
 	}
 	
+	/**
+	 * Gets index of the field (y * 8 + x)
+	 * 
+	 * @return field index or {@link #NO_INDEX} for coordinates outside the
+	 *         board
+	 */
+	public int getIndex() {
+		return index;
+	}
+	
+	private static boolean isInsideBoard(int x, int y) {
+		return x >= 0 && x < Board.SIZE && y >= 0 && y < Board.SIZE;
+	}
+	
 }
@@ -0,0 +1,61 @@
+package com.capgemini.chess.algorithms.data;
+
+/**
+ * Growable list of moves packed with {@link PackedMove}. Lists are meant to be
+ * cleared and reused, so after warm-up adding moves does not allocate.
+ *
+ */
+public class MoveList {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private int[] moves;
+	private int size;
+
+	public MoveList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public MoveList(int capacity) {
+		moves = new int[capacity];
+	}
+
+	public void add(int move) {
+		if (size == moves.length) {
+			int[] grownMoves = new int[Math.max(DEFAULT_CAPACITY, moves.length * 2)];
+			System.arraycopy(moves, 0, grownMoves, 0, size);
+			moves = grownMoves;
+		}
+		moves[size++] = move;
+	}
+
+	public int get(int index) {
+		return moves[index];
+	}
+
+	public void set(int index, int move) {
+		moves[index] = move;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public boolean contains(int move) {
+		for (int i = 0; i < size; i++) {
+			if (moves[i] == move) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.capgemini.chess.algorithms.data;
+
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+
+/**
+ * Chess move packed into a single int, so moves can be generated, applied
+ * and stored without allocating objects.
+ *
+ * <pre>
+ * bits  0-5   'from' field index
+ * bits  6-11  'to' field index
+ * bits 12-13  move type
+ * bits 14-16  moved piece type
+ * bits 17-19  captured piece type + 1 (0 if nothing is captured)
+ * bit  20     promotion flag
+ * </pre>
+ *
+ * Value 0 is not a valid move (from and to fields are equal) and is used as
+ * {@link #NONE}.
+ *
+ */
+public final class PackedMove {
+
+	public static final int NONE = 0;
+
+	private static final int TO_SHIFT = 6;
+	private static final int TYPE_SHIFT = 12;
+	private static final int PIECE_SHIFT = 14;
+	private static final int CAPTURED_SHIFT = 17;
+	private static final int PROMOTION_FLAG = 1 << 20;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int TYPE_MASK = 0x3;
+	private static final int PIECE_MASK = 0x7;
+
+	private static final MoveType[] MOVE_TYPES = MoveType.values();
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private PackedMove() {
+	}
+
+	/**
+	 * Packs move into int
+	 *
+	 * @param from index of 'from' field
+	 * @param to index of 'to' field
+	 * @param type move type
+	 * @param movedPiece type of moved piece
+	 * @param capturedPiece type of captured piece or null
+	 * @param promotion true if pawn is promoted
+	 * @return packed move
+	 */
+	public static int pack(int from, int to, MoveType type, PieceType movedPiece, PieceType capturedPiece,
+			boolean promotion) {
+		int move = from | (to << TO_SHIFT) | (type.ordinal() << TYPE_SHIFT) | (movedPiece.ordinal() << PIECE_SHIFT);
+		if (capturedPiece != null) {
+			move |= (capturedPiece.ordinal() + 1) << CAPTURED_SHIFT;
+		}
+		if (promotion) {
+			move |= PROMOTION_FLAG;
+		}
+		return move;
+	}
+
+	public static int getFrom(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int getTo(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static MoveType getType(int move) {
+		return MOVE_TYPES[(move >>> TYPE_SHIFT) & TYPE_MASK];
+	}
+
+	public static PieceType getMovedPiece(int move) {
+		return PIECE_TYPES[(move >>> PIECE_SHIFT) & PIECE_MASK];
+	}
+
+	/**
+	 * @param move packed move
+	 * @return type of captured piece or null if move is not a capture
+	 */
+	public static PieceType getCapturedPiece(int move) {
+		int captured = (move >>> CAPTURED_SHIFT) & PIECE_MASK;
+		return captured == 0 ? null : PIECE_TYPES[captured - 1];
+	}
+
+	public static boolean isCapture(int move) {
+		return ((move >>> CAPTURED_SHIFT) & PIECE_MASK) != 0;
+	}
+
+	public static boolean isPromotion(int move) {
+		return (move & PROMOTION_FLAG) != 0;
+	}
+
+	/**
+	 * Writes move in coordinate notation, for example "e2e4"
+	 *
+	 * @param move packed move
+	 * @return move notation
+	 */
+	public static String toNotation(int move) {
+		return toSquareNotation(getFrom(move)) + toSquareNotation(getTo(move));
+	}
+
+	/**
+	 * Packs move object. Moved and captured pieces are read from the board,
+	 * so the move must not be applied yet.
+	 *
+	 * @param move move to pack
+	 * @param board board before the move
+	 * @return packed move
+	 */
+	public static int fromMove(Move move, Board board) {
+		return pack(Bitboards.square(move.getFrom()), Bitboards.square(move.getTo()), move.getType(), board);
+	}
+
+	/**
+	 * Packs move of the piece standing on 'from' field. Moved and captured
+	 * pieces are read from the board, so the move must not be applied yet.
+	 *
+	 * @param from index of 'from' field
+	 * @param to index of 'to' field
+	 * @param type move type
+	 * @param board board before the move
+	 * @return packed move
+	 */
+	public static int pack(int from, int to, MoveType type, Board board) {
+		Piece movedPiece = board.getPieceAt(from);
+		PieceType capturedPiece;
+		if (type == MoveType.EN_PASSANT) {
+			capturedPiece = PieceType.PAWN;
+		} else {
+			Piece piece = board.getPieceAt(to);
+			capturedPiece = piece == null ? null : piece.getType();
+		}
+		boolean promotion = movedPiece.getType() == PieceType.PAWN
+				&& (Bitboards.y(to) == 0 || Bitboards.y(to) == Board.SIZE - 1);
+		return pack(from, to, type, movedPiece.getType(), capturedPiece, promotion);
+	}
+
+	/**
+	 * Creates move object from packed move. Moved piece is read from the
+	 * board, so the move must not be applied yet.
+	 *
+	 * @param move packed move
+	 * @param board board before the move
+	 * @return move object
+	 */
+	public static Move toMove(int move, Board board) {
+		Coordinate from = Coordinate.of(getFrom(move));
+		Coordinate to = Coordinate.of(getTo(move));
+		return new Move(from, to, getType(move), board.getPieceAt(from));
+	}
+
+	private static String toSquareNotation(int square) {
+		return String.valueOf((char) ('a' + Bitboards.x(square))) + (Bitboards.y(square) + 1);
+	}
+
+}
@@ -1,10 +1,15 @@
 package com.capgemini.chess.algorithms.data;
 
-public class Path {
+/**
+ * Direction of piece movement. Paths are immutable, so every piece type
+ * keeps its paths in shared, precomputed tables.
+ *
+ */
+public final class Path {
 	
-	private int x;
-	private int y;
-	boolean repeat;
+	private final int x;
+	private final int y;
+	private final boolean repeat;
 	
 	public Path(int x, int y, boolean repeat) {
 		super();
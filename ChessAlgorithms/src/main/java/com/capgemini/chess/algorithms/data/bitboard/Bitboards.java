@@ -0,0 +1,69 @@
+package com.capgemini.chess.algorithms.data.bitboard;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Helper methods for bitboard representation of the chess board.
+ * Square index is calculated as y * 8 + x, so bit 0 is field (0, 0)
+ * and bit 63 is field (7, 7).
+ *
+ */
+public final class Bitboards {
+
+	public static final int SQUARES = 64;
+	public static final int COLORS = 2;
+	public static final int PIECE_TYPES = 7;
+	public static final int NO_SQUARE = -1;
+
+	public static final long EMPTY = 0L;
+	public static final long FILE_A = 0x0101010101010101L;
+	public static final long FILE_H = FILE_A << 7;
+	public static final long RANK_1 = 0xFFL;
+	public static final long RANK_8 = RANK_1 << 56;
+
+	private Bitboards() {
+	}
+
+	public static int square(int x, int y) {
+		return (y << 3) | x;
+	}
+
+	public static int square(Coordinate coordinate) {
+		return coordinate.getIndex();
+	}
+
+	public static int x(int square) {
+		return square & 7;
+	}
+
+	public static int y(int square) {
+		return square >>> 3;
+	}
+
+	public static boolean isInsideBoard(int x, int y) {
+		return x >= 0 && x < 8 && y >= 0 && y < 8;
+	}
+
+	public static long bit(int square) {
+		return 1L << square;
+	}
+
+	public static boolean isSet(long bitboard, int square) {
+		return (bitboard & (1L << square)) != 0;
+	}
+
+	/**
+	 * Index of bitboard of given piece type and color in board piece bitboards
+	 * array
+	 *
+	 * @param color piece color
+	 * @param type piece type
+	 * @return index in range 0 .. COLORS * PIECE_TYPES - 1
+	 */
+	public static int pieceIndex(Color color, PieceType type) {
+		return color.ordinal() * PIECE_TYPES + type.ordinal();
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.capgemini.chess.algorithms.data.bitboard;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Values of pieces standing on fields, used for static evaluation of the
+ * position. Value of the piece is its material value plus bonus from the
+ * piece-square table. Evaluation of the position is sum of values of all
+ * pieces, so it can be updated incrementally when pieces are added to or
+ * removed from the board.
+ *
+ * Values are in centipawns from white's point of view, so values of black
+ * pieces are negative.
+ *
+ */
+public final class PieceSquareTables {
+
+	/**
+	 * Material values of pieces indexed by {@link PieceType} ordinal
+	 */
+	private static final int[] PIECE_VALUES = new int[Bitboards.PIECE_TYPES];
+
+	static {
+		PIECE_VALUES[PieceType.KING.ordinal()] = 0;
+		PIECE_VALUES[PieceType.QUEEN.ordinal()] = 900;
+		PIECE_VALUES[PieceType.BISHOP.ordinal()] = 330;
+		PIECE_VALUES[PieceType.KNIGHT.ordinal()] = 320;
+		PIECE_VALUES[PieceType.ROOK.ordinal()] = 500;
+		PIECE_VALUES[PieceType.PAWN.ordinal()] = 100;
+		PIECE_VALUES[PieceType.DRAGON.ordinal()] = 450;
+	}
+
+	// tables are written from white's point of view, 8th rank first
+
+	private static final int[] KING_TABLE = {
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			 20,  20,   0,   0,   0,   0,  20,  20,
+			 20,  30,  10,   0,   0,  10,  30,  20 };
+
+	private static final int[] QUEEN_TABLE = {
+			-20, -10, -10,  -5,  -5, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,   5,   5,   5,   0, -10,
+			 -5,   0,   5,   5,   5,   5,   0,  -5,
+			  0,   0,   5,   5,   5,   5,   0,  -5,
+			-10,   5,   5,   5,   5,   5,   0, -10,
+			-10,   0,   5,   0,   0,   0,   0, -10,
+			-20, -10, -10,  -5,  -5, -10, -10, -20 };
+
+	private static final int[] BISHOP_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-10,   0,   5,  10,  10,   5,   0, -10,
+			-10,   5,   5,  10,  10,   5,   5, -10,
+			-10,   0,  10,  10,  10,  10,   0, -10,
+			-10,  10,  10,  10,  10,  10,  10, -10,
+			-10,   5,   0,   0,   0,   0,   5, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+
+	private static final int[] KNIGHT_TABLE = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20,   0,   0,   0,   0, -20, -40,
+			-30,   0,  10,  15,  15,  10,   0, -30,
+			-30,   5,  15,  20,  20,  15,   5, -30,
+			-30,   0,  15,  20,  20,  15,   0, -30,
+			-30,   5,  10,  15,  15,  10,   5, -30,
+			-40, -20,   0,   5,   5,   0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50 };
+
+	private static final int[] ROOK_TABLE = {
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			  5,  10,  10,  10,  10,  10,  10,   5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			 -5,   0,   0,   0,   0,   0,   0,  -5,
+			  0,   0,   0,   5,   5,   0,   0,   0 };
+
+	private static final int[] PAWN_TABLE = {
+			  0,   0,   0,   0,   0,   0,   0,   0,
+			 50,  50,  50,  50,  50,  50,  50,  50,
+			 10,  10,  20,  30,  30,  20,  10,  10,
+			  5,   5,  10,  25,  25,  10,   5,   5,
+			  0,   0,   0,  20,  20,   0,   0,   0,
+			  5,  -5, -10,   0,   0, -10,  -5,   5,
+			  5,  10,  10, -20, -20,  10,  10,   5,
+			  0,   0,   0,   0,   0,   0,   0,   0 };
+
+	/**
+	 * Dragon reaches every field within distance of 3 but captures only on
+	 * adjacent fields, so it is rewarded for being central and close to the
+	 * enemy
+	 */
+	private static final int[] DRAGON_TABLE = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10,   5,  10,  10,  10,  10,   5, -10,
+			-10,   5,  15,  20,  20,  15,   5, -10,
+			-10,   5,  15,  20,  20,  15,   5, -10,
+			-10,   0,  10,  15,  15,  10,   0, -10,
+			-10,   0,   5,  10,  10,   5,   0, -10,
+			-10,   0,   0,   0,   0,   0,   0, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+
+	private static final int[][] VALUES = new int[Bitboards.COLORS * Bitboards.PIECE_TYPES][Bitboards.SQUARES];
+
+	static {
+		int[][] tables = new int[Bitboards.PIECE_TYPES][];
+		tables[PieceType.KING.ordinal()] = KING_TABLE;
+		tables[PieceType.QUEEN.ordinal()] = QUEEN_TABLE;
+		tables[PieceType.BISHOP.ordinal()] = BISHOP_TABLE;
+		tables[PieceType.KNIGHT.ordinal()] = KNIGHT_TABLE;
+		tables[PieceType.ROOK.ordinal()] = ROOK_TABLE;
+		tables[PieceType.PAWN.ordinal()] = PAWN_TABLE;
+		tables[PieceType.DRAGON.ordinal()] = DRAGON_TABLE;
+
+		for (PieceType type : PieceType.values()) {
+			int[] table = tables[type.ordinal()];
+			int[] whiteValues = VALUES[Bitboards.pieceIndex(Color.WHITE, type)];
+			int[] blackValues = VALUES[Bitboards.pieceIndex(Color.BLACK, type)];
+			for (int square = 0; square < Bitboards.SQUARES; square++) {
+				int x = Bitboards.x(square);
+				int y = Bitboards.y(square);
+				whiteValues[square] = PIECE_VALUES[type.ordinal()] + table[Bitboards.square(x, 7 - y)];
+				blackValues[square] = -(PIECE_VALUES[type.ordinal()] + table[Bitboards.square(x, y)]);
+			}
+		}
+	}
+
+	private PieceSquareTables() {
+	}
+
+	/**
+	 * Gets material value of piece type
+	 *
+	 * @param type piece type
+	 * @return value in centipawns
+	 */
+	public static int pieceValue(PieceType type) {
+		return PIECE_VALUES[type.ordinal()];
+	}
+
+	/**
+	 * Gets value of the piece standing on the field
+	 *
+	 * @param color piece color
+	 * @param type piece type
+	 * @param square index of the field
+	 * @return value in centipawns, negative for black pieces
+	 */
+	public static int value(Color color, PieceType type, int square) {
+		return VALUES[Bitboards.pieceIndex(color, type)][square];
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.capgemini.chess.algorithms.data.bitboard;
+
+import java.util.Random;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Random keys used for Zobrist hashing of chess positions.
+ * Position key is XOR of keys of all pieces on their fields, side to move,
+ * castling rights and file of en passant field. Keys are generated from
+ * a fixed seed, so they are the same in every run.
+ *
+ */
+public final class Zobrist {
+
+	private static final long SEED = 0x5EED_C0FF_EE15_BADL;
+
+	private static final long[][] PIECE_SQUARE_KEYS = new long[Bitboards.COLORS * Bitboards.PIECE_TYPES][Bitboards.SQUARES];
+	private static final long[] CASTLING_KEYS = new long[16];
+	private static final long[] EN_PASSANT_KEYS = new long[8];
+	private static final long BLACK_TO_MOVE_KEY;
+
+	static {
+		Random random = new Random(SEED);
+		for (long[] keys : PIECE_SQUARE_KEYS) {
+			for (int square = 0; square < Bitboards.SQUARES; square++) {
+				keys[square] = random.nextLong();
+			}
+		}
+		// castling key is XOR of keys of single castling rights
+		long[] singleRightKeys = { random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong() };
+		for (int rights = 0; rights < CASTLING_KEYS.length; rights++) {
+			for (int i = 0; i < singleRightKeys.length; i++) {
+				if ((rights & (1 << i)) != 0) {
+					CASTLING_KEYS[rights] ^= singleRightKeys[i];
+				}
+			}
+		}
+		for (int file = 0; file < EN_PASSANT_KEYS.length; file++) {
+			EN_PASSANT_KEYS[file] = random.nextLong();
+		}
+		BLACK_TO_MOVE_KEY = random.nextLong();
+	}
+
+	private Zobrist() {
+	}
+
+	public static long pieceKey(Color color, PieceType type, int square) {
+		return PIECE_SQUARE_KEYS[Bitboards.pieceIndex(color, type)][square];
+	}
+
+	public static long castlingKey(int castlingRights) {
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	public static long enPassantKey(int file) {
+		return EN_PASSANT_KEYS[file];
+	}
+
+	public static long sideKey(Color sideToMove) {
+		return sideToMove == Color.BLACK ? BLACK_TO_MOVE_KEY : 0L;
+	}
+
+}
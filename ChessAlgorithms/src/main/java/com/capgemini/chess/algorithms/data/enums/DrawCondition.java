@@ -0,0 +1,14 @@
+package com.capgemini.chess.algorithms.data.enums;
+
+/**
+ * Rules which end the game with a draw, either when claimed by a player
+ * (threefold repetition, 50-move rule) or automatically (other conditions).
+ *
+ */
+public enum DrawCondition {
+	THREEFOLD_REPETITION,
+	FIVEFOLD_REPETITION,
+	FIFTY_MOVE_RULE,
+	SEVENTY_FIVE_MOVE_RULE,
+	INSUFFICIENT_MATERIAL;
+}
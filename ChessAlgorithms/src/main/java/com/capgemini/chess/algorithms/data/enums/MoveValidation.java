@@ -0,0 +1,35 @@
+package com.capgemini.chess.algorithms.data.enums;
+
+/**
+ * Result of move validation: {@link #VALID} or the reason why the move is
+ * not allowed.
+ *
+ */
+public enum MoveValidation {
+	VALID(null),
+	INCORRECT_START_POSITION("Incorrect start position."),
+	INCORRECT_FINAL_POSITION("Incorrect final position."),
+	NO_PIECE_AT_START_POSITION("There is no piece at the start position."),
+	NOT_YOUR_PIECE("This is not your piece."),
+	CAPTURE_OF_OWN_PIECE("You can't capture your own pieces."),
+	PIECE_CANNOT_MOVE_THERE("You can't move this piece there."),
+	PIECE_CANNOT_CAPTURE_THERE(null),
+	KING_IN_CHECK("King must not be checked!");
+
+	private final String message;
+
+	private MoveValidation(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * @return description of the problem or null if there is no description
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	public boolean isValid() {
+		return this == VALID;
+	}
+}
@@ -1,16 +1,42 @@
 package com.capgemini.chess.algorithms.data.generated;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.bitboard.PieceSquareTables;
+import com.capgemini.chess.algorithms.data.bitboard.Zobrist;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.pieces.Piece;
 
 /**
  * Board representation.
  * Board objects are generated based on move history.
+ * Pieces are kept both in the array of fields and in bitboards
+ * (one bitboard per piece type and color plus occupancy masks),
+ * which are updated together in {@link #setPieceAt(Piece, Coordinate)}.
+ * Board also keeps fields of both kings and a list of fields of pieces of
+ * each color, so they can be found without scanning the whole board.
+ * Moves are applied with {@link #makeMove(Move)} (or, without adding
+ * them to move history, with {@link #makeMove(int)}) and can be taken back
+ * with {@link #unmakeMove()}, which restores the board from the undo stack.
+ * Zobrist key of the pieces and static evaluation of the position are
+ * updated together with bitboards, the key of the whole position with every
+ * move, and the key of the position before every move is kept on the undo
+ * stack for repetition detection and unmaking. Halfmove clock
+ * and index of the first move after the last irreversible move are updated
+ * with every move, so draw rules are checked without going through move
+ * history.
+ * Pieces are immutable and shared between boards. Whether a piece has moved
+ * (which decides about castling rights) is kept by the board as a bitboard
+ * of fields of pieces which have not moved yet.
  * 
  * @author Michal Bejm
  *
@@ -19,9 +45,40 @@ public class Board {
 	
 	public static final int SIZE = 8;
 	
+	public static final int WHITE_KING_SIDE_CASTLING = 1;
+	public static final int WHITE_QUEEN_SIDE_CASTLING = 2;
+	public static final int BLACK_KING_SIDE_CASTLING = 4;
+	public static final int BLACK_QUEEN_SIDE_CASTLING = 8;
+	
+	/**
+	 * Value of {@link #keyedHistorySize} when position key has to be
+	 * calculated from scratch
+	 */
+	private static final int NOT_KEYED = -1;
+	
 	private Piece[][] pieces = new Piece[SIZE][SIZE];
+	private long[] pieceBitboards = new long[Bitboards.COLORS * Bitboards.PIECE_TYPES];
+	private long[] colorBitboards = new long[Bitboards.COLORS];
+	private long occupancy;
+	private long unmovedPieces;
+	private long piecesKey;
+	private long zobristKey;
+	private int keyedHistorySize = NOT_KEYED;
+	private int evaluation;
+	private int[] kingSquares = { Bitboards.NO_SQUARE, Bitboards.NO_SQUARE };
+	private int[][] pieceSquares = new int[Bitboards.COLORS][Bitboards.SQUARES];
+	private int[] pieceCounts = new int[Bitboards.COLORS];
+	private int[] pieceListIndexes = new int[Bitboards.SQUARES];
 	private List<Move> moveHistory = new ArrayList<>();
 	private BoardState state;
+	private UndoEntry[] undoStack = new UndoEntry[0];
+	private int undoStackSize;
+	private int engineMoves;
+	private int initialPly;
+	private int initialEnPassantSquare = Bitboards.NO_SQUARE;
+	private int halfmoveClock;
+	private int clockedHistorySize;
+	private int repetitionStart;
 	
 	public Board() {
 	}
@@ -30,25 +87,29 @@ public class Board {
 		this.pieces = pieces;
 		this.moveHistory = moveHistory;
 		this.state = state;
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				if (pieces[x][y] != null) {
+					addToBitboards(pieces[x][y], Bitboards.square(x, y));
+					addToPieceList(pieces[x][y].getColor(), Bitboards.square(x, y));
+					updateUnmovedPiece(pieces[x][y], Coordinate.of(x, y));
+				}
+			}
+		}
 	}
 	
 	/**
-	 * Sets chess piece on board based on given coordinates
+	 * Sets chess piece on board based on given coordinates. Piece set outside
+	 * of its start fields is treated as moved.
 	 * 
 	 * @param piece chess piece
 	 * @param board chess board
 	 * @param coordinate given coordinates
 	 */
 	public void setPieceAt(Piece piece, Coordinate coordinate) {
-		
-		if(piece!=null){
-			ArrayList<Coordinate> possibleStartCoordinates = piece.possibleStartCoordinates(piece.getColor());
-			
-			if(!possibleStartCoordinates.contains(coordinate)){
-				piece.setMovedThisGame(true);
-			}
-		}	
-		pieces[coordinate.getX()][coordinate.getY()] = piece;
+		putPiece(piece, Bitboards.square(coordinate));
+		updateUnmovedPiece(piece, coordinate);
+		keyedHistorySize = NOT_KEYED;
 	}
 	
 	/**
@@ -61,22 +122,542 @@ public class Board {
 		return pieces[coordinate.getX()][coordinate.getY()];
 	}
 	
+	/**
+	 * Applies move to the board and adds it to move history. Move has to be
+	 * already validated. Everything needed to take the move back (captured
+	 * piece, unmoved pieces which decide about castling, pawn replaced by
+	 * promotion) is stored on the undo stack.
+	 * 
+	 * @param move move to apply
+	 */
+	public void makeMove(Move move) {
+		applyMove(PackedMove.fromMove(move, this), true);
+		moveHistory.add(move);
+		clockedHistorySize++;
+		keyedHistorySize++;
+	}
+	
+	/**
+	 * Applies move packed with {@link PackedMove} to the board. Move has to be
+	 * legal according to piece movement rules. Move is not added to move
+	 * history, so making and taking back packed moves does not allocate
+	 * objects once the undo stack is large enough.
+	 * 
+	 * @param move packed move to apply
+	 */
+	public void makeMove(int move) {
+		applyMove(move, false);
+		engineMoves++;
+	}
+	
+	/**
+	 * Takes back the last move applied with {@link #makeMove(Move)} or
+	 * {@link #makeMove(int)}. Move object is removed from move history.
+	 */
+	public void unmakeMove() {
+		UndoEntry undo = undoStack[--undoStackSize];
+		if (undo.gameMove) {
+			moveHistory.remove(moveHistory.size() - 1);
+			clockedHistorySize = Math.min(clockedHistorySize, moveHistory.size());
+		} else {
+			engineMoves--;
+		}
+		
+		int move = undo.move;
+		int from = PackedMove.getFrom(move);
+		int to = PackedMove.getTo(move);
+		
+		if (PackedMove.getType(move) == MoveType.CASTLING) {
+			movePiece(getCastlingRookDestination(from, to), getCastlingRookStart(from, to));
+		}
+		
+		if (PackedMove.isPromotion(move)) {
+			putPiece(undo.movedPiece, to);
+		}
+		movePiece(to, from);
+		if (undo.capturedPiece != null) {
+			int capturedSquare = getCapturedSquare(move);
+			putPiece(undo.capturedPiece, capturedSquare);
+			moveInPieceList(undo.capturedPiece.getColor(), capturedSquare, undo.capturedListIndex);
+		}
+		
+		unmovedPieces = undo.unmovedPieces;
+		zobristKey = undo.zobristKey;
+		keyedHistorySize = moveHistory.size();
+		halfmoveClock = undo.halfmoveClock;
+		repetitionStart = undo.repetitionStart;
+	}
+	
+	/**
+	 * Gets color of pieces which make the next move
+	 * 
+	 * @return color of the side to move
+	 */
+	public Color getSideToMove() {
+		return getPly() % 2 == 0 ? Color.WHITE : Color.BLACK;
+	}
+	
+	/**
+	 * Checks if piece on given field has moved during the game. Piece which
+	 * was set outside of its start fields is treated as moved.
+	 * 
+	 * @param coordinate field coordinates
+	 * @return true if piece on the field has moved or field is empty, false
+	 *         otherwise
+	 */
+	public boolean isPieceMoved(Coordinate coordinate) {
+		return !Bitboards.isSet(unmovedPieces, Bitboards.square(coordinate));
+	}
+	
+	/**
+	 * Calculates castling rights from the king and rooks which have not moved
+	 * from their start fields yet
+	 * 
+	 * @return combination of castling flags (for example
+	 *         {@link #WHITE_KING_SIDE_CASTLING})
+	 */
+	public int getCastlingRights() {
+		int castlingRights = 0;
+		if (isUnmoved(PieceType.KING, Color.WHITE, 4, 0)) {
+			if (isUnmoved(PieceType.ROOK, Color.WHITE, SIZE - 1, 0)) {
+				castlingRights |= WHITE_KING_SIDE_CASTLING;
+			}
+			if (isUnmoved(PieceType.ROOK, Color.WHITE, 0, 0)) {
+				castlingRights |= WHITE_QUEEN_SIDE_CASTLING;
+			}
+		}
+		if (isUnmoved(PieceType.KING, Color.BLACK, 4, SIZE - 1)) {
+			if (isUnmoved(PieceType.ROOK, Color.BLACK, SIZE - 1, SIZE - 1)) {
+				castlingRights |= BLACK_KING_SIDE_CASTLING;
+			}
+			if (isUnmoved(PieceType.ROOK, Color.BLACK, 0, SIZE - 1)) {
+				castlingRights |= BLACK_QUEEN_SIDE_CASTLING;
+			}
+		}
+		return castlingRights;
+	}
+	
+	/**
+	 * Calculates field passed by the pawn which made double move in the last
+	 * move
+	 * 
+	 * @return index of the field or {@link Bitboards#NO_SQUARE} if last move
+	 *         was not a pawn double move
+	 */
+	public int getEnPassantSquare() {
+		if (undoStackSize > 0 && undoStack[undoStackSize - 1].ply == getPly() - 1) {
+			int lastMove = undoStack[undoStackSize - 1].move;
+			int from = PackedMove.getFrom(lastMove);
+			int to = PackedMove.getTo(lastMove);
+			if (PackedMove.getMovedPiece(lastMove) != PieceType.PAWN || Math.abs(to - from) != 2 * SIZE) {
+				return Bitboards.NO_SQUARE;
+			}
+			return (from + to) / 2;
+		}
+		// moves added to history directly are not on the undo stack
+		if (moveHistory.isEmpty()) {
+			return initialEnPassantSquare;
+		}
+		Move lastMove = moveHistory.get(moveHistory.size() - 1);
+		Coordinate from = lastMove.getFrom();
+		Coordinate to = lastMove.getTo();
+		if (from == null || to == null || from.getX() != to.getX() || Math.abs(to.getY() - from.getY()) != 2) {
+			return Bitboards.NO_SQUARE;
+		}
+		Piece pawn = getPieceAt(to);
+		if (pawn == null || pawn.getType() != PieceType.PAWN) {
+			return Bitboards.NO_SQUARE;
+		}
+		return Bitboards.square(to.getX(), (from.getY() + to.getY()) / 2);
+	}
+	
+	/**
+	 * Gets Zobrist key of the position: pieces on fields, side to move,
+	 * castling rights and file of en passant field (only when en passant
+	 * capture is possible). Key is updated with every move and restored when
+	 * move is taken back; it is calculated from scratch only after pieces were
+	 * set or moves were added directly to move history.
+	 * 
+	 * @return 64-bit position key
+	 */
+	public long getZobristKey() {
+		if (keyedHistorySize != moveHistory.size()) {
+			Color sideToMove = getSideToMove();
+			zobristKey = piecesKey ^ Zobrist.sideKey(sideToMove) ^ Zobrist.castlingKey(getCastlingRights())
+					^ enPassantKey(sideToMove, getEnPassantSquare());
+			keyedHistorySize = moveHistory.size();
+		}
+		return zobristKey;
+	}
+	
+	/**
+	 * Gets static evaluation of the position: material plus piece-square
+	 * table bonuses of all pieces (see {@link PieceSquareTables}). Evaluation
+	 * is updated when pieces are placed or removed, so making and unmaking
+	 * moves does not rescan the board.
+	 *
+	 * @return score in centipawns from white's point of view
+	 */
+	public int getEvaluation() {
+		return evaluation;
+	}
+
+	/**
+	 * Counts earlier occurrences of the current position since the last
+	 * irreversible move (capture, pawn move or change of castling rights,
+	 * including castling), which is kept as index on the undo stack, so only
+	 * positions after it are compared. Only every second position is
+	 * compared, as positions with the other side to move cannot repeat the
+	 * current one. Only moves applied with {@link #makeMove(Move)} or
+	 * {@link #makeMove(int)} are taken into account.
+	 * 
+	 * @return number of times current position occurred before
+	 */
+	public int countRepetitions() {
+		long key = getZobristKey();
+		int repetitions = 0;
+		for (int i = undoStackSize - 2; i >= repetitionStart; i -= 2) {
+			if (undoStack[i].zobristKey == key) {
+				repetitions++;
+			}
+		}
+		return repetitions;
+	}
+	
+	/**
+	 * Gets number of moves since the last capture or pawn move, counted from
+	 * the position the board was loaded from. Moves added directly to move
+	 * history (without {@link #makeMove(Move)}) are counted when the clock is
+	 * read next time.
+	 * 
+	 * @return halfmove clock
+	 */
+	public int getHalfmoveClock() {
+		countAddedMoves();
+		return halfmoveClock;
+	}
+	
+	/**
+	 * Gets number of the full move, starting from 1 and incremented after
+	 * move of black
+	 * 
+	 * @return fullmove number
+	 */
+	public int getFullmoveNumber() {
+		return getPly() / 2 + 1;
+	}
+	
+	/**
+	 * Sets state of the loaded position which can not be read from pieces.
+	 * Move history has to be empty.
+	 * 
+	 * @param sideToMove color of the side to move
+	 * @param enPassantSquare field passed by pawn which made double move in
+	 *            the last move or {@link Bitboards#NO_SQUARE}
+	 * @param halfmoveClock number of moves since the last capture or pawn move
+	 * @param fullmoveNumber number of the full move
+	 */
+	void setInitialState(Color sideToMove, int enPassantSquare, int halfmoveClock, int fullmoveNumber) {
+		this.initialPly = (fullmoveNumber - 1) * 2 + (sideToMove == Color.BLACK ? 1 : 0);
+		this.initialEnPassantSquare = enPassantSquare;
+		this.halfmoveClock = halfmoveClock;
+		this.clockedHistorySize = 0;
+		this.keyedHistorySize = NOT_KEYED;
+	}
+	
+	/**
+	 * Marks king and rooks on start fields as moved when they have no castling
+	 * rights. Castling rights of pieces which have moved are not restored.
+	 * 
+	 * @param castlingRights combination of castling flags (for example
+	 *            {@link #WHITE_KING_SIDE_CASTLING})
+	 */
+	void setCastlingRights(int castlingRights) {
+		removeCastlingRights(0, castlingRights & WHITE_KING_SIDE_CASTLING,
+				castlingRights & WHITE_QUEEN_SIDE_CASTLING);
+		removeCastlingRights(SIZE - 1, castlingRights & BLACK_KING_SIDE_CASTLING,
+				castlingRights & BLACK_QUEEN_SIDE_CASTLING);
+		keyedHistorySize = NOT_KEYED;
+	}
+	
+	/**
+	 * Removes all pieces and moves, so the board can be reused for another
+	 * position
+	 */
+	void clear() {
+		for (Piece[] column : pieces) {
+			Arrays.fill(column, null);
+		}
+		Arrays.fill(pieceBitboards, Bitboards.EMPTY);
+		Arrays.fill(colorBitboards, Bitboards.EMPTY);
+		occupancy = Bitboards.EMPTY;
+		unmovedPieces = Bitboards.EMPTY;
+		piecesKey = 0L;
+		keyedHistorySize = NOT_KEYED;
+		evaluation = 0;
+		Arrays.fill(kingSquares, Bitboards.NO_SQUARE);
+		Arrays.fill(pieceCounts, 0);
+		moveHistory.clear();
+		state = null;
+		for (int i = 0; i < undoStackSize; i++) {
+			undoStack[i].movedPiece = null;
+			undoStack[i].capturedPiece = null;
+		}
+		undoStackSize = 0;
+		engineMoves = 0;
+		initialPly = 0;
+		initialEnPassantSquare = Bitboards.NO_SQUARE;
+		halfmoveClock = 0;
+		clockedHistorySize = 0;
+		repetitionStart = 0;
+	}
+	
+	/**
+	 * Creates copy of the board. Pieces are immutable, so they are shared with
+	 * the copy, and moves can be made on the copy (for example in another
+	 * thread) without affecting this board.
+	 * 
+	 * @return independent copy of the board
+	 */
 	public Board generateCopy(){
 		Piece[][] piecesCopy = new Piece[SIZE][SIZE];
 		for(int i=0; i<pieces.length; i++){
-			for(int j=0; j<pieces[i].length; j++){
-				piecesCopy[i][j]=pieces[i][j];
-			}
-		}		  		    
+			System.arraycopy(pieces[i], 0, piecesCopy[i], 0, SIZE);
+		}
 		List<Move> moveHistoryCopy = new ArrayList<Move>();
 		for(Move move: moveHistory){
 			moveHistoryCopy.add(move);
 		}
 		BoardState stateCopy = state;
-		Board boardCopy = new Board(piecesCopy,moveHistoryCopy,stateCopy);
+		Board boardCopy = new Board();
+		boardCopy.pieces = piecesCopy;
+		boardCopy.moveHistory = moveHistoryCopy;
+		boardCopy.state = stateCopy;
+		System.arraycopy(pieceBitboards, 0, boardCopy.pieceBitboards, 0, pieceBitboards.length);
+		System.arraycopy(colorBitboards, 0, boardCopy.colorBitboards, 0, colorBitboards.length);
+		boardCopy.occupancy = occupancy;
+		boardCopy.unmovedPieces = unmovedPieces;
+		boardCopy.piecesKey = piecesKey;
+		boardCopy.zobristKey = zobristKey;
+		boardCopy.keyedHistorySize = keyedHistorySize;
+		boardCopy.evaluation = evaluation;
+		System.arraycopy(kingSquares, 0, boardCopy.kingSquares, 0, kingSquares.length);
+		for (int color = 0; color < Bitboards.COLORS; color++) {
+			System.arraycopy(pieceSquares[color], 0, boardCopy.pieceSquares[color], 0, pieceCounts[color]);
+		}
+		System.arraycopy(pieceCounts, 0, boardCopy.pieceCounts, 0, pieceCounts.length);
+		System.arraycopy(pieceListIndexes, 0, boardCopy.pieceListIndexes, 0, pieceListIndexes.length);
+		boardCopy.undoStack = new UndoEntry[undoStack.length];
+		for (int i = 0; i < undoStackSize; i++) {
+			boardCopy.undoStack[i] = undoStack[i].copy();
+		}
+		boardCopy.undoStackSize = undoStackSize;
+		boardCopy.engineMoves = engineMoves;
+		boardCopy.initialPly = initialPly;
+		boardCopy.initialEnPassantSquare = initialEnPassantSquare;
+		boardCopy.halfmoveClock = halfmoveClock;
+		boardCopy.clockedHistorySize = clockedHistorySize;
+		boardCopy.repetitionStart = repetitionStart;
 		return boardCopy;
 	}
 	
+	/**
+	 * Creates immutable snapshot of the current position, which can be read by
+	 * other threads while moves are made on this board. Move history is not
+	 * copied.
+	 * 
+	 * @return snapshot of the position
+	 */
+	public BoardSnapshot createSnapshot() {
+		Piece[] squares = new Piece[Bitboards.SQUARES];
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				squares[Bitboards.square(x, y)] = pieces[x][y];
+			}
+		}
+		int lastMove = PackedMove.NONE;
+		if (undoStackSize > 0 && undoStack[undoStackSize - 1].ply == getPly() - 1) {
+			lastMove = undoStack[undoStackSize - 1].move;
+		}
+		return new BoardSnapshot(squares, pieceBitboards.clone(), colorBitboards.clone(), occupancy, getSideToMove(),
+				getCastlingRights(), getEnPassantSquare(), getHalfmoveClock(), getFullmoveNumber(), getZobristKey(),
+				evaluation, moveHistory.size(), lastMove, state);
+	}
+	
+	/**
+	 * Gets bitboard of all pieces of given type and color
+	 * 
+	 * @param color pieces color
+	 * @param type pieces type
+	 * @return bitboard with bits set on fields occupied by these pieces
+	 */
+	public long getPieceBitboard(Color color, PieceType type) {
+		return pieceBitboards[Bitboards.pieceIndex(color, type)];
+	}
+	
+	/**
+	 * Gets bitboard of all pieces of given color
+	 * 
+	 * @param color pieces color
+	 * @return bitboard with bits set on fields occupied by pieces of this color
+	 */
+	public long getColorBitboard(Color color) {
+		return colorBitboards[color.ordinal()];
+	}
+	
+	/**
+	 * Gets bitboard of all pieces on the board
+	 * 
+	 * @return bitboard with bits set on all occupied fields
+	 */
+	public long getOccupancy() {
+		return occupancy;
+	}
+	
+	public boolean isEmpty(int square) {
+		return (occupancy & Bitboards.bit(square)) == 0;
+	}
+	
+	public boolean isOccupiedBy(Color color, int square) {
+		return (colorBitboards[color.ordinal()] & Bitboards.bit(square)) != 0;
+	}
+	
+	/**
+	 * Gets chess piece from board based on field index
+	 * 
+	 * @param square field index
+	 * @return chess piece
+	 */
+	public Piece getPieceAt(int square) {
+		return pieces[Bitboards.x(square)][Bitboards.y(square)];
+	}
+	
+	/**
+	 * Gets field of the king of given color
+	 * 
+	 * @param color king color
+	 * @return index of the field or {@link Bitboards#NO_SQUARE} if there is
+	 *         no king of this color on the board
+	 */
+	public int getKingSquare(Color color) {
+		return kingSquares[color.ordinal()];
+	}
+	
+	/**
+	 * Gets number of pieces of given color on the board
+	 * 
+	 * @param color pieces color
+	 * @return number of pieces
+	 */
+	public int getPieceCount(Color color) {
+		return pieceCounts[color.ordinal()];
+	}
+	
+	/**
+	 * Gets field of the piece from the list of pieces of given color. Moved
+	 * pieces keep their places on the list, and taking a move back restores
+	 * the order the list had before the move.
+	 * 
+	 * @param color pieces color
+	 * @param index position on the list, from 0 to
+	 *            {@link #getPieceCount(Color)} - 1
+	 * @return index of the field
+	 */
+	public int getPieceSquare(Color color, int index) {
+		return pieceSquares[color.ordinal()][index];
+	}
+	
+	private void putPiece(Piece piece, int square) {
+		Piece replacedPiece = getPieceAt(square);
+		if (replacedPiece != null) {
+			removeFromBitboards(replacedPiece, square);
+		}
+		if (piece != null) {
+			addToBitboards(piece, square);
+		}
+		pieces[Bitboards.x(square)][Bitboards.y(square)] = piece;
+		
+		// piece replaced by piece of the same color keeps its place on the list
+		if (replacedPiece != null && (piece == null || piece.getColor() != replacedPiece.getColor())) {
+			removeFromPieceList(replacedPiece.getColor(), square);
+		}
+		if (piece != null && (replacedPiece == null || piece.getColor() != replacedPiece.getColor())) {
+			addToPieceList(piece.getColor(), square);
+		}
+	}
+	
+	/**
+	 * Moves piece to empty field
+	 */
+	private void movePiece(int from, int to) {
+		Piece piece = getPieceAt(from);
+		removeFromBitboards(piece, from);
+		addToBitboards(piece, to);
+		pieces[Bitboards.x(from)][Bitboards.y(from)] = null;
+		pieces[Bitboards.x(to)][Bitboards.y(to)] = piece;
+		
+		int listIndex = pieceListIndexes[from];
+		pieceSquares[piece.getColor().ordinal()][listIndex] = to;
+		pieceListIndexes[to] = listIndex;
+	}
+	
+	private void addToPieceList(Color color, int square) {
+		int listIndex = pieceCounts[color.ordinal()]++;
+		pieceSquares[color.ordinal()][listIndex] = square;
+		pieceListIndexes[square] = listIndex;
+	}
+	
+	private void removeFromPieceList(Color color, int square) {
+		int[] squares = pieceSquares[color.ordinal()];
+		int lastIndex = --pieceCounts[color.ordinal()];
+		int listIndex = pieceListIndexes[square];
+		squares[listIndex] = squares[lastIndex];
+		pieceListIndexes[squares[listIndex]] = listIndex;
+	}
+	
+	/**
+	 * Swaps piece with the piece on given place of the list, so captured piece
+	 * put back on the board returns to its place
+	 */
+	private void moveInPieceList(Color color, int square, int listIndex) {
+		int[] squares = pieceSquares[color.ordinal()];
+		int currentIndex = pieceListIndexes[square];
+		int swappedSquare = squares[listIndex];
+		squares[currentIndex] = swappedSquare;
+		pieceListIndexes[swappedSquare] = currentIndex;
+		squares[listIndex] = square;
+		pieceListIndexes[square] = listIndex;
+	}
+	
+	private void updateKingSquare(Color color) {
+		long kings = pieceBitboards[Bitboards.pieceIndex(color, PieceType.KING)];
+		kingSquares[color.ordinal()] = kings == Bitboards.EMPTY ? Bitboards.NO_SQUARE : Long.numberOfTrailingZeros(kings);
+	}
+	
+	private void addToBitboards(Piece piece, int square) {
+		long bit = Bitboards.bit(square);
+		pieceBitboards[Bitboards.pieceIndex(piece.getColor(), piece.getType())] |= bit;
+		colorBitboards[piece.getColor().ordinal()] |= bit;
+		occupancy |= bit;
+		piecesKey ^= Zobrist.pieceKey(piece.getColor(), piece.getType(), square);
+		evaluation += PieceSquareTables.value(piece.getColor(), piece.getType(), square);
+		if (piece.getType() == PieceType.KING) {
+			updateKingSquare(piece.getColor());
+		}
+	}
+	
+	private void removeFromBitboards(Piece piece, int square) {
+		long bit = ~Bitboards.bit(square);
+		pieceBitboards[Bitboards.pieceIndex(piece.getColor(), piece.getType())] &= bit;
+		colorBitboards[piece.getColor().ordinal()] &= bit;
+		occupancy &= bit;
+		piecesKey ^= Zobrist.pieceKey(piece.getColor(), piece.getType(), square);
+		evaluation -= PieceSquareTables.value(piece.getColor(), piece.getType(), square);
+		if (piece.getType() == PieceType.KING) {
+			updateKingSquare(piece.getColor());
+		}
+	}
+	
 	public ArrayList<Move> getMoveHistoryCopy() {
 		ArrayList<Move> moveHistoryCopy = new ArrayList<Move>();
 		for(Move move: moveHistory){
@@ -89,6 +670,12 @@ public class Board {
 		return moveHistory;
 	}
 
+	/**
+	 * Gets fields of the board. Returned array must not be modified directly,
+	 * use {@link #setPieceAt(Piece, Coordinate)} to keep bitboards in sync.
+	 * 
+	 * @return chess pieces indexed by x and y coordinates
+	 */
 	public Piece[][] getPieces() {
 		return pieces;
 	}
@@ -100,4 +687,196 @@ public class Board {
 	public void setState(BoardState state) {
 		this.state = state;
 	}
+	
+	private UndoEntry pushUndoEntry() {
+		if (undoStackSize == undoStack.length) {
+			UndoEntry[] grownStack = new UndoEntry[Math.max(16, undoStack.length * 2)];
+			System.arraycopy(undoStack, 0, grownStack, 0, undoStack.length);
+			undoStack = grownStack;
+		}
+		if (undoStack[undoStackSize] == null) {
+			undoStack[undoStackSize] = new UndoEntry();
+		}
+		return undoStack[undoStackSize++];
+	}
+	
+	private boolean isUnmoved(PieceType type, Color color, int x, int y) {
+		Piece piece = pieces[x][y];
+		return piece != null && piece.getType() == type && piece.getColor() == color
+				&& Bitboards.isSet(unmovedPieces, Bitboards.square(x, y));
+	}
+	
+	private void updateUnmovedPiece(Piece piece, Coordinate coordinate) {
+		long bit = Bitboards.bit(Bitboards.square(coordinate));
+		if (piece != null && piece.possibleStartCoordinates(piece.getColor()).contains(coordinate)) {
+			unmovedPieces |= bit;
+		} else {
+			unmovedPieces &= ~bit;
+		}
+	}
+	
+	private void removeCastlingRights(int y, int kingSide, int queenSide) {
+		if (kingSide == 0 && queenSide == 0) {
+			unmovedPieces &= ~Bitboards.bit(Bitboards.square(4, y));
+		}
+		if (kingSide == 0) {
+			unmovedPieces &= ~Bitboards.bit(Bitboards.square(SIZE - 1, y));
+		}
+		if (queenSide == 0) {
+			unmovedPieces &= ~Bitboards.bit(Bitboards.square(0, y));
+		}
+	}
+	
+	private void applyMove(int move, boolean gameMove) {
+		countAddedMoves();
+		long positionKey = getZobristKey();
+		int castlingRights = getCastlingRights();
+		int ply = getPly();
+		UndoEntry undo = pushUndoEntry();
+		int from = PackedMove.getFrom(move);
+		int to = PackedMove.getTo(move);
+		int capturedSquare = getCapturedSquare(move);
+		Piece movedPiece = getPieceAt(from);
+		
+		undo.move = move;
+		undo.ply = ply;
+		undo.gameMove = gameMove;
+		undo.zobristKey = positionKey;
+		undo.movedPiece = movedPiece;
+		undo.capturedPiece = getPieceAt(capturedSquare);
+		undo.unmovedPieces = unmovedPieces;
+		
+		if (undo.capturedPiece != null) {
+			undo.capturedListIndex = pieceListIndexes[capturedSquare];
+			putPiece(null, capturedSquare);
+		}
+		
+		movePiece(from, to);
+		unmovedPieces &= ~(Bitboards.bit(from) | Bitboards.bit(to) | Bitboards.bit(capturedSquare));
+		
+		if (PackedMove.isPromotion(move)) {
+			putPiece(Piece.of(PieceType.QUEEN, movedPiece.getColor()), to);
+		}
+		
+		MoveType type = PackedMove.getType(move);
+		if (type == MoveType.CASTLING) {
+			int rookFrom = getCastlingRookStart(from, to);
+			movePiece(rookFrom, getCastlingRookDestination(from, to));
+			unmovedPieces &= ~Bitboards.bit(rookFrom);
+		}
+		
+		int newCastlingRights = getCastlingRights();
+		Color sideToMove = (ply + 1) % 2 == 0 ? Color.WHITE : Color.BLACK;
+		int enPassantSquare = movedPiece.getType() == PieceType.PAWN && Math.abs(to - from) == 2 * SIZE
+				? (from + to) / 2 : Bitboards.NO_SQUARE;
+		zobristKey = piecesKey ^ Zobrist.sideKey(sideToMove) ^ Zobrist.castlingKey(newCastlingRights)
+				^ enPassantKey(sideToMove, enPassantSquare);
+		keyedHistorySize = moveHistory.size();
+		
+		undo.halfmoveClock = halfmoveClock;
+		undo.repetitionStart = repetitionStart;
+		boolean resetsClock = undo.capturedPiece != null || movedPiece.getType() == PieceType.PAWN;
+		if (resetsClock) {
+			halfmoveClock = 0;
+		} else {
+			halfmoveClock++;
+		}
+		// position before irreversible move can not occur again
+		if (resetsClock || castlingRights != newCastlingRights) {
+			repetitionStart = undoStackSize;
+		}
+	}
+	
+	/**
+	 * Gets Zobrist key of en passant file, only if a pawn of the side to move
+	 * can capture en passant
+	 */
+	private long enPassantKey(Color sideToMove, int enPassantSquare) {
+		if (enPassantSquare == Bitboards.NO_SQUARE) {
+			return 0L;
+		}
+		int pawnSquare = sideToMove == Color.WHITE ? enPassantSquare - SIZE : enPassantSquare + SIZE;
+		long pawn = Bitboards.bit(pawnSquare);
+		long neighbours = ((pawn << 1) & ~Bitboards.FILE_A) | ((pawn >>> 1) & ~Bitboards.FILE_H);
+		if ((neighbours & getPieceBitboard(sideToMove, PieceType.PAWN)) == 0) {
+			return 0L;
+		}
+		return Zobrist.enPassantKey(Bitboards.x(enPassantSquare));
+	}
+	
+	/**
+	 * Updates halfmove clock with moves added directly to move history
+	 */
+	private void countAddedMoves() {
+		if (clockedHistorySize > moveHistory.size()) {
+			clockedHistorySize = moveHistory.size();
+		}
+		for (; clockedHistorySize < moveHistory.size(); clockedHistorySize++) {
+			Move move = moveHistory.get(clockedHistorySize);
+			Piece movedPiece = move.getMovedPiece();
+			if (move.getType() == MoveType.CAPTURE || move.getType() == MoveType.EN_PASSANT
+					|| (movedPiece != null && movedPiece.getType() == PieceType.PAWN)) {
+				halfmoveClock = 0;
+			} else {
+				halfmoveClock++;
+			}
+		}
+	}
+	
+	private int getPly() {
+		return initialPly + moveHistory.size() + engineMoves;
+	}
+	
+	/**
+	 * Pawn captured en passant stays on the row of the 'from' field
+	 */
+	private int getCapturedSquare(int move) {
+		int to = PackedMove.getTo(move);
+		if (PackedMove.getType(move) != MoveType.EN_PASSANT) {
+			return to;
+		}
+		return Bitboards.square(Bitboards.x(to), Bitboards.y(PackedMove.getFrom(move)));
+	}
+	
+	private int getCastlingRookStart(int kingFrom, int kingTo) {
+		int rookX = kingFrom > kingTo ? 0 : SIZE - 1;
+		return Bitboards.square(rookX, Bitboards.y(kingFrom));
+	}
+	
+	private int getCastlingRookDestination(int kingFrom, int kingTo) {
+		return kingFrom > kingTo ? kingTo + 1 : kingTo - 1;
+	}
+	
+	/**
+	 * State of the board which can not be recalculated when move is taken back.
+	 * Entries are reused, so making and taking back moves does not allocate
+	 * once the stack is large enough.
+	 */
+	private static class UndoEntry {
+		private int move;
+		private int ply;
+		private boolean gameMove;
+		private long zobristKey;
+		private int halfmoveClock;
+		private int repetitionStart;
+		private long unmovedPieces;
+		private Piece movedPiece;
+		private Piece capturedPiece;
+		private int capturedListIndex;
+		
+		private UndoEntry copy() {
+			UndoEntry copy = new UndoEntry();
+			copy.move = move;
+			copy.ply = ply;
+			copy.gameMove = gameMove;
+			copy.zobristKey = zobristKey;
+			copy.halfmoveClock = halfmoveClock;
+			copy.repetitionStart = repetitionStart;
+			copy.unmovedPieces = unmovedPieces;
+			copy.movedPiece = movedPiece;
+			copy.capturedPiece = capturedPiece;
+			copy.capturedListIndex = capturedListIndex;
+			return copy;
+		}
+	}
 }
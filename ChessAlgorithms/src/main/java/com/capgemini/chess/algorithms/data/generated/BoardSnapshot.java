@@ -0,0 +1,147 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+
+/**
+ * Immutable copy of the position of a {@link Board}, created with
+ * {@link Board#createSnapshot()}. Snapshot contains pieces, bitboards and
+ * state of the position, but not move history, so creating it takes time
+ * independent of the game length. Pieces are immutable and shared with the
+ * board. Snapshots can be read by any number of threads without
+ * synchronization.
+ *
+ */
+public final class BoardSnapshot {
+
+	private final Piece[] pieces;
+	private final long[] pieceBitboards;
+	private final long[] colorBitboards;
+	private final long occupancy;
+	private final Color sideToMove;
+	private final int castlingRights;
+	private final int enPassantSquare;
+	private final int halfmoveClock;
+	private final int fullmoveNumber;
+	private final long zobristKey;
+	private final int evaluation;
+	private final int moveCount;
+	private final int lastMove;
+	private final BoardState state;
+
+	BoardSnapshot(Piece[] pieces, long[] pieceBitboards, long[] colorBitboards, long occupancy, Color sideToMove,
+			int castlingRights, int enPassantSquare, int halfmoveClock, int fullmoveNumber, long zobristKey,
+			int evaluation, int moveCount, int lastMove, BoardState state) {
+		this.pieces = pieces;
+		this.pieceBitboards = pieceBitboards;
+		this.colorBitboards = colorBitboards;
+		this.occupancy = occupancy;
+		this.sideToMove = sideToMove;
+		this.castlingRights = castlingRights;
+		this.enPassantSquare = enPassantSquare;
+		this.halfmoveClock = halfmoveClock;
+		this.fullmoveNumber = fullmoveNumber;
+		this.zobristKey = zobristKey;
+		this.evaluation = evaluation;
+		this.moveCount = moveCount;
+		this.lastMove = lastMove;
+		this.state = state;
+	}
+
+	public Piece getPieceAt(Coordinate coordinate) {
+		return pieces[Bitboards.square(coordinate)];
+	}
+
+	/**
+	 * Gets chess piece from field with given index
+	 *
+	 * @param square field index
+	 * @return chess piece or null if field is empty
+	 */
+	public Piece getPieceAt(int square) {
+		return pieces[square];
+	}
+
+	public long getPieceBitboard(Color color, PieceType type) {
+		return pieceBitboards[Bitboards.pieceIndex(color, type)];
+	}
+
+	public long getColorBitboard(Color color) {
+		return colorBitboards[color.ordinal()];
+	}
+
+	public long getOccupancy() {
+		return occupancy;
+	}
+
+	public Color getSideToMove() {
+		return sideToMove;
+	}
+
+	/**
+	 * @return combination of castling flags (for example
+	 *         {@link Board#WHITE_KING_SIDE_CASTLING})
+	 */
+	public int getCastlingRights() {
+		return castlingRights;
+	}
+
+	/**
+	 * @return index of the field passed by pawn which made double move in the
+	 *         last move or {@link Bitboards#NO_SQUARE}
+	 */
+	public int getEnPassantSquare() {
+		return enPassantSquare;
+	}
+
+	public int getHalfmoveClock() {
+		return halfmoveClock;
+	}
+
+	public int getFullmoveNumber() {
+		return fullmoveNumber;
+	}
+
+	public long getZobristKey() {
+		return zobristKey;
+	}
+
+	/**
+	 * Gets static evaluation of the position (see
+	 * {@link Board#getEvaluation()})
+	 *
+	 * @return score in centipawns from white's point of view
+	 */
+	public int getEvaluation() {
+		return evaluation;
+	}
+
+	/**
+	 * Gets length of move history of the board when snapshot was created
+	 *
+	 * @return number of moves
+	 */
+	public int getMoveCount() {
+		return moveCount;
+	}
+
+	/**
+	 * Gets the last move applied to the board
+	 *
+	 * @return move packed with {@link PackedMove} or {@link PackedMove#NONE} if
+	 *         there was no move or it was added directly to move history
+	 */
+	public int getLastMove() {
+		return lastMove;
+	}
+
+	public BoardState getState() {
+		return state;
+	}
+
+}
@@ -0,0 +1,262 @@
+package com.capgemini.chess.algorithms.data.generated;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+
+/**
+ * Conversion between boards and Forsyth-Edwards Notation (FEN). All six
+ * fields are supported: piece placement, side to move, castling rights, en
+ * passant field, halfmove clock and fullmove number; the two clocks may be
+ * omitted. Dragon is written as 'D' (white) and 'd' (black).
+ * 
+ * Parser reads the text character by character and can load positions into
+ * an existing board. Boards share immutable pieces, so loading many positions
+ * creates no objects.
+ *
+ */
+public final class Fen {
+
+	public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final String PIECE_SYMBOLS = "KQBNRPD";
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+	private Fen() {
+	}
+
+	/**
+	 * Creates board from FEN
+	 * 
+	 * @param fen position in FEN
+	 * @return board with the position and empty move history
+	 * @throws IllegalArgumentException if FEN is not valid
+	 */
+	public static Board parse(String fen) {
+		Board board = new Board();
+		load(fen, board);
+		return board;
+	}
+
+	/**
+	 * Loads position from FEN into given board. Pieces and move history of
+	 * the board are removed first.
+	 * 
+	 * @param fen position in FEN
+	 * @param board board to load position into
+	 * @throws IllegalArgumentException if FEN is not valid
+	 */
+	public static void load(String fen, Board board) {
+		board.clear();
+		int index = parsePiecePlacement(fen, board);
+
+		index = skipSpace(fen, index);
+		Color sideToMove;
+		char side = charAt(fen, index++);
+		if (side == 'w') {
+			sideToMove = Color.WHITE;
+		} else if (side == 'b') {
+			sideToMove = Color.BLACK;
+		} else {
+			throw invalid(fen, "side to move must be 'w' or 'b'");
+		}
+
+		index = skipSpace(fen, index);
+		int castlingRights = 0;
+		if (charAt(fen, index) == '-') {
+			index++;
+		} else {
+			while (index < fen.length() && fen.charAt(index) != ' ') {
+				castlingRights |= toCastlingRight(fen, fen.charAt(index++));
+			}
+		}
+		board.setCastlingRights(castlingRights);
+
+		index = skipSpace(fen, index);
+		int enPassantSquare = Bitboards.NO_SQUARE;
+		if (charAt(fen, index) == '-') {
+			index++;
+		} else {
+			int x = charAt(fen, index) - 'a';
+			int y = charAt(fen, index + 1) - '1';
+			int expectedY = sideToMove == Color.WHITE ? Board.SIZE - 3 : 2;
+			if (x < 0 || x >= Board.SIZE || y != expectedY) {
+				throw invalid(fen, "en passant field must be on the sixth row for white and on the third row for black");
+			}
+			// pawn which has just moved two fields stands in front of the en passant field
+			Color opponent = sideToMove == Color.WHITE ? Color.BLACK : Color.WHITE;
+			int pawnSquare = Bitboards.square(x, sideToMove == Color.WHITE ? y - 1 : y + 1);
+			if ((board.getPieceBitboard(opponent, PieceType.PAWN) & Bitboards.bit(pawnSquare)) == 0) {
+				throw invalid(fen, "en passant field must be behind pawn of the side which has just moved");
+			}
+			enPassantSquare = Bitboards.square(x, y);
+			index += 2;
+		}
+
+		int halfmoveClock = 0;
+		int fullmoveNumber = 1;
+		if (index < fen.length()) {
+			index = skipSpace(fen, index);
+			halfmoveClock = parseNumber(fen, index);
+			index = skipDigits(fen, index);
+			index = skipSpace(fen, index);
+			fullmoveNumber = Math.max(1, parseNumber(fen, index));
+			index = skipDigits(fen, index);
+		}
+		if (index != fen.length()) {
+			throw invalid(fen, "unexpected text after fullmove number");
+		}
+		board.setInitialState(sideToMove, enPassantSquare, halfmoveClock, fullmoveNumber);
+	}
+
+	/**
+	 * Writes position of the board in FEN
+	 * 
+	 * @param board chess board
+	 * @return position in FEN
+	 */
+	public static String toFen(Board board) {
+		StringBuilder fen = new StringBuilder(90);
+		for (int y = Board.SIZE - 1; y >= 0; y--) {
+			int emptyFields = 0;
+			for (int x = 0; x < Board.SIZE; x++) {
+				Piece piece = board.getPieceAt(Bitboards.square(x, y));
+				if (piece == null) {
+					emptyFields++;
+					continue;
+				}
+				if (emptyFields > 0) {
+					fen.append(emptyFields);
+					emptyFields = 0;
+				}
+				char symbol = PIECE_SYMBOLS.charAt(piece.getType().ordinal());
+				fen.append(piece.getColor() == Color.WHITE ? symbol : Character.toLowerCase(symbol));
+			}
+			if (emptyFields > 0) {
+				fen.append(emptyFields);
+			}
+			if (y > 0) {
+				fen.append('/');
+			}
+		}
+
+		fen.append(board.getSideToMove() == Color.WHITE ? " w " : " b ");
+
+		int castlingRights = board.getCastlingRights();
+		if (castlingRights == 0) {
+			fen.append('-');
+		} else {
+			appendIf(fen, castlingRights, Board.WHITE_KING_SIDE_CASTLING, 'K');
+			appendIf(fen, castlingRights, Board.WHITE_QUEEN_SIDE_CASTLING, 'Q');
+			appendIf(fen, castlingRights, Board.BLACK_KING_SIDE_CASTLING, 'k');
+			appendIf(fen, castlingRights, Board.BLACK_QUEEN_SIDE_CASTLING, 'q');
+		}
+
+		int enPassantSquare = board.getEnPassantSquare();
+		if (enPassantSquare == Bitboards.NO_SQUARE) {
+			fen.append(" -");
+		} else {
+			fen.append(' ').append((char) ('a' + Bitboards.x(enPassantSquare))).append(Bitboards.y(enPassantSquare) + 1);
+		}
+
+		fen.append(' ').append(board.getHalfmoveClock()).append(' ').append(board.getFullmoveNumber());
+		return fen.toString();
+	}
+
+	private static int parsePiecePlacement(String fen, Board board) {
+		int index = 0;
+		int x = 0;
+		int y = Board.SIZE - 1;
+		while (index < fen.length() && fen.charAt(index) != ' ') {
+			char symbol = fen.charAt(index++);
+			if (symbol == '/') {
+				if (x != Board.SIZE || y == 0) {
+					throw invalid(fen, "every row must have 8 fields");
+				}
+				x = 0;
+				y--;
+			} else if (symbol >= '1' && symbol <= '8') {
+				x += symbol - '0';
+				if (x > Board.SIZE) {
+					throw invalid(fen, "every row must have 8 fields");
+				}
+			} else {
+				int type = PIECE_SYMBOLS.indexOf(Character.toUpperCase(symbol));
+				if (type < 0 || x >= Board.SIZE) {
+					throw invalid(fen, "unexpected character '" + symbol + "' in piece placement");
+				}
+				Color color = Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK;
+				board.setPieceAt(Piece.of(PIECE_TYPES[type], color), Coordinate.of(x, y));
+				x++;
+			}
+		}
+		if (x != Board.SIZE || y != 0) {
+			throw invalid(fen, "piece placement must have 8 rows of 8 fields");
+		}
+		return index;
+	}
+
+	private static int toCastlingRight(String fen, char symbol) {
+		switch (symbol) {
+		case 'K':
+			return Board.WHITE_KING_SIDE_CASTLING;
+		case 'Q':
+			return Board.WHITE_QUEEN_SIDE_CASTLING;
+		case 'k':
+			return Board.BLACK_KING_SIDE_CASTLING;
+		case 'q':
+			return Board.BLACK_QUEEN_SIDE_CASTLING;
+		default:
+			throw invalid(fen, "unexpected character '" + symbol + "' in castling rights");
+		}
+	}
+
+	private static void appendIf(StringBuilder fen, int castlingRights, int castlingRight, char symbol) {
+		if ((castlingRights & castlingRight) != 0) {
+			fen.append(symbol);
+		}
+	}
+
+	private static char charAt(String fen, int index) {
+		if (index >= fen.length()) {
+			throw invalid(fen, "unexpected end of text");
+		}
+		return fen.charAt(index);
+	}
+
+	private static int skipSpace(String fen, int index) {
+		if (charAt(fen, index) != ' ') {
+			throw invalid(fen, "fields must be separated with space");
+		}
+		while (index < fen.length() && fen.charAt(index) == ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	private static int parseNumber(String fen, int index) {
+		int number = 0;
+		int end = skipDigits(fen, index);
+		if (end == index) {
+			throw invalid(fen, "number expected");
+		}
+		for (int i = index; i < end; i++) {
+			number = number * 10 + fen.charAt(i) - '0';
+		}
+		return number;
+	}
+
+	private static int skipDigits(String fen, int index) {
+		while (index < fen.length() && fen.charAt(index) >= '0' && fen.charAt(index) <= '9') {
+			index++;
+		}
+		return index;
+	}
+
+	private static IllegalArgumentException invalid(String fen, String reason) {
+		return new IllegalArgumentException("Invalid FEN \"" + fen + "\": " + reason);
+	}
+
+}
@@ -1,6 +1,6 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
@@ -9,37 +9,32 @@ import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 public class Bishop extends Piece {
 	
+	private static final List<Path> PATHS = paths(
+			new Path(-1,-1,true),
+			new Path(-1,1,true),
+			new Path(1,-1,true),
+			new Path(1,1,true));
+	private static final List<Coordinate> WHITE_START_COORDINATES = coordinates(Coordinate.of(2,0), Coordinate.of(5,0));
+	private static final List<Coordinate> BLACK_START_COORDINATES = coordinates(Coordinate.of(2,7), Coordinate.of(5,7));
+	
 	public Bishop(Color color){
 		super(PieceType.BISHOP, color);
 	}
-
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		paths.add(new Path(-1,-1,true));
-		paths.add(new Path(-1,1,true));
-		paths.add(new Path(1,-1,true));
-		paths.add(new Path(1,1,true));
-		
-		
-		return paths;
+	
+	public List<Path> getMovePaths(){
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		return getMovePaths();
+	public List<Path> getCapturePaths(){		
+		return PATHS;
 	}
 	
 	@Override
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			possibleStartCoordinates.add(new Coordinate(2,7));
-			possibleStartCoordinates.add(new Coordinate(5,7));
-		} else {
-			possibleStartCoordinates.add(new Coordinate(2,0));
-			possibleStartCoordinates.add(new Coordinate(5,0));
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
-	
+
 }
@@ -1,6 +1,6 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
@@ -9,43 +9,35 @@ import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 public class King extends Piece {
 	
+	private static final List<Path> PATHS = surroundingPaths(1, false);
+	private static final List<Path> CASTLING_PATHS = paths(
+			new Path(-2,0,false),
+			new Path(2,0,false));
+	private static final List<Coordinate> WHITE_START_COORDINATES = coordinates(Coordinate.of(4,0));
+	private static final List<Coordinate> BLACK_START_COORDINATES = coordinates(Coordinate.of(4,7));
+	
 	public King(Color color){
 		super(PieceType.KING, color);
 	}
 	
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		for(int i=-1; i<2; i++){
-			for(int j=-1; j<2; j++){
-				if(i!=0 || j !=0) paths.add(new Path(i,j,false));
-			}
-		}
-		return paths;
+	public List<Path> getMovePaths(){
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		return getMovePaths();
+	public List<Path> getCapturePaths(){		
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCastlingPaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		paths.add(new Path(-2,0,false));
-		paths.add(new Path(2,0,false));
-		
-		return paths;
+	public List<Path> getCastlingPaths(){
+		return CASTLING_PATHS;
 	}
-
+	
 	@Override
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			possibleStartCoordinates.add(new Coordinate(4,7));
-		} else {
-			possibleStartCoordinates.add(new Coordinate(4,0));
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
 
 }
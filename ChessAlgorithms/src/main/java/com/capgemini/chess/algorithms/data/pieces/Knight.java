@@ -1,6 +1,6 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
@@ -9,39 +9,36 @@ import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 public class Knight extends Piece {
 	
+	private static final List<Path> PATHS = paths(
+			new Path(-2,-1,false),
+			new Path(-2,1,false),
+			new Path(-1,-2,false),
+			new Path(-1,2,false),
+			new Path(1,-2,false),
+			new Path(1,2,false),
+			new Path(2,-1,false),
+			new Path(2,1,false));
+	private static final List<Coordinate> WHITE_START_COORDINATES = coordinates(Coordinate.of(1,0), Coordinate.of(6,0));
+	private static final List<Coordinate> BLACK_START_COORDINATES = coordinates(Coordinate.of(1,7), Coordinate.of(6,7));
+	
 	public Knight(Color color){
 		super(PieceType.KNIGHT, color);
 	}
 	
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		paths.add(new Path(-2,-1,false));
-		paths.add(new Path(-2,1,false));
-		paths.add(new Path(-1,-2,false));
-		paths.add(new Path(-1,2,false));
-		paths.add(new Path(1,-2,false));
-		paths.add(new Path(1,2,false));
-		paths.add(new Path(2,-1,false));
-		paths.add(new Path(2,1,false));
-		
-		return paths;
+	public List<Path> getMovePaths(){
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		return getMovePaths();
+	public List<Path> getCapturePaths(){		
+		return PATHS;
 	}
 	
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	@Override
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			possibleStartCoordinates.add(new Coordinate(1,7));
-			possibleStartCoordinates.add(new Coordinate(6,7));
-		} else {
-			possibleStartCoordinates.add(new Coordinate(1,0));
-			possibleStartCoordinates.add(new Coordinate(6,0));
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
 
 }
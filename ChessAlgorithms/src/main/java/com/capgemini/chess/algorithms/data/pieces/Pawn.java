@@ -1,78 +1,71 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
-import com.capgemini.chess.algorithms.data.generated.Board;
 
 public class Pawn extends Piece {
 	
+	private static final List<Path> WHITE_MOVE_PATHS = paths(new Path(0,1,false));
+	private static final List<Path> BLACK_MOVE_PATHS = paths(new Path(0,-1,false));
+	private static final List<Path> WHITE_DOUBLE_MOVE_PATHS = paths(new Path(0,1,false), new Path(0,2,false));
+	private static final List<Path> BLACK_DOUBLE_MOVE_PATHS = paths(new Path(0,-1,false), new Path(0,-2,false));
+	private static final List<Path> WHITE_CAPTURE_PATHS = paths(new Path(-1,1,false), new Path(1,1,false));
+	private static final List<Path> BLACK_CAPTURE_PATHS = paths(new Path(-1,-1,false), new Path(1,-1,false));
+	private static final List<Coordinate> WHITE_START_COORDINATES = rowCoordinates(1);
+	private static final List<Coordinate> BLACK_START_COORDINATES = rowCoordinates(6);
+	
 	public Pawn(Color color){
 		super(PieceType.PAWN, color);
 	}
 	
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		int colorModifier = 1;
+	public List<Path> getMovePaths(){
 		if(color == Color.BLACK){
-			colorModifier = -1;
+			return BLACK_MOVE_PATHS;
 		}
-		paths.add(new Path(0,1*colorModifier,false));
-		
-		return paths;
+		return WHITE_MOVE_PATHS;
 	}
 	
-	public ArrayList<Path> getDoubleMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		int colorModifier = 1;
+	/**
+	 * Gets paths of the double move, which is allowed only from the start row
+	 * 
+	 * @return double move paths
+	 */
+	public List<Path> getDoubleMovePaths(){
 		if(color == Color.BLACK){
-			colorModifier = -1;
-		}
-		if(!movedThisGame) {
-			paths.add(new Path(0,1*colorModifier,false));
-			paths.add(new Path(0,2*colorModifier,false));
+			return BLACK_DOUBLE_MOVE_PATHS;
 		}
-		
-		return paths;
+		return WHITE_DOUBLE_MOVE_PATHS;
 	}
 	
-	public ArrayList<Path> getEnPassantPaths(){
+	public List<Path> getEnPassantPaths(){
 		return getCapturePaths();
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		int colorModifier = 1;
+	public List<Path> getCapturePaths(){		
 		if(color == Color.BLACK){
-			colorModifier = -1;
+			return BLACK_CAPTURE_PATHS;
 		}
-		
-		paths.add(new Path(-1,1*colorModifier,false));
-		paths.add(new Path(1,1*colorModifier,false));
-		
-		return paths;	
+		return WHITE_CAPTURE_PATHS;
 	}
 	
 	@Override
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			for (int x = 0; x < 8; x++) {
-				possibleStartCoordinates.add(new Coordinate(x, 6));
-			}
-		} else {
-			for (int x = 0; x < 8; x++) {
-				possibleStartCoordinates.add(new Coordinate(x, 1));
-			}
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
 	
+	private static List<Coordinate> rowCoordinates(int y) {
+		Coordinate[] coordinates = new Coordinate[8];
+		for (int x = 0; x < 8; x++) {
+			coordinates[x] = Coordinate.of(x, y);
+		}
+		return coordinates(coordinates);
+	}
 
 }
@@ -1,26 +1,35 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
 import com.capgemini.chess.algorithms.data.enums.Color;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 
+/**
+ * Chess piece. Pieces are immutable, state which changes during the game
+ * (for example whether the piece has moved) is kept by the board, so one
+ * instance of every type and color, returned by {@link #of(PieceType, Color)},
+ * can be shared by all boards and threads.
+ *
+ */
 public abstract class Piece {
 
 	private final PieceType type;
     protected final Color color;
-    protected boolean movedThisGame;
 
 	Piece(PieceType type, Color color) {
         this.type = type;
         this.color = color;
     }
 
-	public abstract ArrayList<Coordinate> possibleStartCoordinates(Color color);
-	public abstract ArrayList<Path> getMovePaths();
-	public abstract ArrayList<Path> getCapturePaths();
+	public abstract List<Coordinate> possibleStartCoordinates(Color color);
+	public abstract List<Path> getMovePaths();
+	public abstract List<Path> getCapturePaths();
 
 	@Override
 	public int hashCode() {
@@ -55,12 +64,77 @@ public abstract class Piece {
 		return color;
 	}
 	
-	public boolean isMovedThisGame() {
-		return movedThisGame;
+	/**
+	 * Gets shared piece of given type and color
+	 * 
+	 * @param type piece type
+	 * @param color piece color
+	 * @return chess piece
+	 */
+	public static Piece of(PieceType type, Color color) {
+		return Instances.PIECES[color.ordinal()][type.ordinal()];
 	}
-
-	public void setMovedThisGame(boolean movedThisGame) {
-		this.movedThisGame = movedThisGame;
+	
+	private static Piece create(PieceType type, Color color) {
+		switch (type) {
+		case KING:
+			return new King(color);
+		case QUEEN:
+			return new Queen(color);
+		case BISHOP:
+			return new Bishop(color);
+		case KNIGHT:
+			return new Knight(color);
+		case ROOK:
+			return new Rook(color);
+		case PAWN:
+			return new Pawn(color);
+		case DRAGON:
+			return new Dragon(color);
+		default:
+			throw new IllegalArgumentException("Unknown piece type: " + type);
+		}
+	}
+	
+	/**
+	 * Creates immutable table of paths shared by all pieces of one type
+	 */
+	static List<Path> paths(Path... paths) {
+		return Collections.unmodifiableList(Arrays.asList(paths));
+	}
+	
+	/**
+	 * Creates immutable table of paths to all fields within given distance
+	 */
+	static List<Path> surroundingPaths(int distance, boolean repeat) {
+		List<Path> paths = new ArrayList<Path>();
+		for(int i=-distance; i<=distance; i++){
+			for(int j=-distance; j<=distance; j++){
+				if(i!=0 || j !=0) paths.add(new Path(i,j,repeat));
+			}
+		}
+		return Collections.unmodifiableList(paths);
+	}
+	
+	static List<Coordinate> coordinates(Coordinate... coordinates) {
+		return Collections.unmodifiableList(Arrays.asList(coordinates));
+	}
+	
+	/**
+	 * Shared pieces, created when first used, so they are not created while
+	 * classes of pieces are initialized
+	 */
+	private static final class Instances {
+		
+		private static final Piece[][] PIECES = new Piece[Color.values().length][PieceType.values().length];
+		
+		static {
+			for (Color color : Color.values()) {
+				for (PieceType type : PieceType.values()) {
+					PIECES[color.ordinal()][type.ordinal()] = create(type, color);
+				}
+			}
+		}
 	}
 	
 }
@@ -1,6 +1,6 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
@@ -9,35 +9,28 @@ import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 public class Queen extends Piece {
 	
+	private static final List<Path> PATHS = surroundingPaths(1, true);
+	private static final List<Coordinate> WHITE_START_COORDINATES = coordinates(Coordinate.of(3,0));
+	private static final List<Coordinate> BLACK_START_COORDINATES = coordinates(Coordinate.of(3,7));
+	
 	public Queen(Color color){
 		super(PieceType.QUEEN, color);
 	}
 	
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		for(int i=-1; i<2; i++){
-			for(int j=-1; j<2; j++){
-				if(i!=0 && j !=0) paths.add(new Path(i,j,true));
-			}
-		}
-		
-		return paths;
+	public List<Path> getMovePaths(){
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		return getMovePaths();
+	public List<Path> getCapturePaths(){		
+		return PATHS;
 	}
 	
 	@Override
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			possibleStartCoordinates.add(new Coordinate(3,7));
-		} else {
-			possibleStartCoordinates.add(new Coordinate(3,0));
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
 
 }
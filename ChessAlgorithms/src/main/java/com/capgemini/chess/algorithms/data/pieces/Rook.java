@@ -1,6 +1,6 @@
 package com.capgemini.chess.algorithms.data.pieces;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Path;
@@ -9,34 +9,32 @@ import com.capgemini.chess.algorithms.data.enums.PieceType;
 
 public class Rook extends Piece {
 	
+	private static final List<Path> PATHS = paths(
+			new Path(-1,0,true),
+			new Path(0,-1,true),
+			new Path(0,1,true),
+			new Path(1,0,true));
+	private static final List<Coordinate> WHITE_START_COORDINATES = coordinates(Coordinate.of(0,0), Coordinate.of(7,0));
+	private static final List<Coordinate> BLACK_START_COORDINATES = coordinates(Coordinate.of(0,7), Coordinate.of(7,7));
+	
 	public Rook(Color color){
 		super(PieceType.ROOK, color);
 	}
 	
-	public ArrayList<Path> getMovePaths(){
-		ArrayList<Path> paths = new ArrayList<Path>();
-		
-		paths.add(new Path(-1,0,true));
-		paths.add(new Path(0,-1,true));
-		paths.add(new Path(0,1,true));
-		paths.add(new Path(1,0,true));
-		
-		return paths;
+	public List<Path> getMovePaths(){
+		return PATHS;
 	}
 	
-	public ArrayList<Path> getCapturePaths(){		
-		return getMovePaths();
+	public List<Path> getCapturePaths(){		
+		return PATHS;
 	}
-
-	public ArrayList<Coordinate> possibleStartCoordinates(Color color) {
-		ArrayList<Coordinate> possibleStartCoordinates = new ArrayList<Coordinate>();
+	
+	@Override
+	public List<Coordinate> possibleStartCoordinates(Color color) {
 		if(color==Color.BLACK){
-			possibleStartCoordinates.add(new Coordinate(0,7));
-			possibleStartCoordinates.add(new Coordinate(7,7));
-		} else {
-			possibleStartCoordinates.add(new Coordinate(0,0));
-			possibleStartCoordinates.add(new Coordinate(7,0));
+			return BLACK_START_COORDINATES;
 		}
-		return possibleStartCoordinates;
+		return WHITE_START_COORDINATES;
 	}
+
 }
@@ -0,0 +1,272 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Precomputed attack tables.
+ * Attacks of leaping pieces (king, knight, pawn, dragon) are read directly
+ * from tables indexed by square. Attacks of sliding pieces (rook, bishop, queen)
+ * are read from magic bitboard tables indexed by the relevant blockers.
+ *
+ */
+public final class AttackTables {
+
+	private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+	private static final int[][] KNIGHT_JUMPS = { { -2, -1 }, { -2, 1 }, { -1, -2 }, { -1, 2 }, { 1, -2 }, { 1, 2 },
+			{ 2, -1 }, { 2, 1 } };
+	private static final int DRAGON_MOVE_RANGE = 3;
+
+	private static final long[] ROOK_MAGICS = {
+			0x008000908064C000L, 0x0040200040001000L, 0x0180100080A0010AL, 0x8880041000800800L,
+			0x1200100201200804L, 0x0200020004011008L, 0x2180010000800600L, 0x0200005088210204L,
+			0x0400800040008021L, 0x0400400020005000L, 0x8240801000200080L, 0x8611001004200900L,
+			0x008180800C001800L, 0x0100800200800400L, 0x0A02000102000408L, 0x8020802300104280L,
+			0x0080004000402000L, 0xE010104000402000L, 0x0800808010002000L, 0xA280210008100100L,
+			0x0001818014000800L, 0xA002010100080400L, 0x0080240001020870L, 0x0001020004048845L,
+			0x0081826280004004L, 0x2020810900284000L, 0x0200100080802000L, 0x0200080080100080L,
+			0x8083080100100500L, 0x4406000901000400L, 0x0005020080800100L, 0x0090204200008114L,
+			0x0010400094800420L, 0x0900804000802002L, 0x0201001841002000L, 0x4100080080801000L,
+			0x4540040080800800L, 0x0002001004040020L, 0x0281195814001002L, 0x1240800040800100L,
+			0x0880042000524004L, 0x02C080410206002CL, 0x0801200241050010L, 0x8400080010008080L,
+			0x0008000500090010L, 0x0082009084020008L, 0x4012000108020004L, 0x9000104D08860004L,
+			0x2004204114800100L, 0x0148802112400300L, 0x0202842000100880L, 0x001B080080900080L,
+			0x001A002008100600L, 0x0004008004020080L, 0x5181000600040300L, 0x0000044401128A00L,
+			0x8044110480002441L, 0x2008110084402202L, 0x90806005090010C1L, 0x000420310A004A42L,
+			0x0023001004020801L, 0x0882001008040102L, 0x000230088118020CL, 0x0000019025040042L };
+
+	private static final long[] BISHOP_MAGICS = {
+			0x0045010808008680L, 0x2002080204004898L, 0x0210009A10400006L, 0x0824050200810200L,
+			0x0006061105004090L, 0x00010108C0000000L, 0x0814040282104004L, 0x0012012201106800L,
+			0x10823014100C1040L, 0x0080C2088802808CL, 0x0281108410404000L, 0x0101212041826200L,
+			0x0020141028221058L, 0x2201020202200202L, 0x000082A801482000L, 0x0000008401411044L,
+			0x0007103014300404L, 0x0002091110010100L, 0x42140012040C0808L, 0x0800808802004020L,
+			0x90C4004210140000L, 0x0800200900A01000L, 0x00D0400201108810L, 0x80820183814412A0L,
+			0x00A01008202202B4L, 0x01C2021A09500402L, 0x0084440208042400L, 0x800400400C090100L,
+			0xBA10040010802100L, 0xD182009006005000L, 0x5011021001009004L, 0x0020420200510400L,
+			0x0292104000468800L, 0x00043009091C0500L, 0x0280441000020025L, 0x0042820080080080L,
+			0x0440101010010040L, 0x1000900100808080L, 0x0108108120089800L, 0x0044010200012682L,
+			0xC002500420900400L, 0x0040482210710800L, 0x0002060024000200L, 0x0281020A44000800L,
+			0xA0021200A4000200L, 0x0001301000840840L, 0x2868500108444220L, 0x0004111041000200L,
+			0x8044020842080200L, 0x0000220104210200L, 0x0000021201044000L, 0x0000280884040028L,
+			0x4012114010858003L, 0x0000081004082B88L, 0x3892700508208002L, 0x00220A041B060400L,
+			0x0812020284014881L, 0x010434A282103100L, 0x0490400824020800L, 0x4A20002C00208800L,
+			0x000000A011020200L, 0x4002940A02482202L, 0x5100100202140406L, 0x02102000840540C1L };
+
+	private static final long[] KNIGHT_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[] KING_ATTACKS = new long[Bitboards.SQUARES];
+	private static final long[] DRAGON_MOVES = new long[Bitboards.SQUARES];
+	private static final long[][] PAWN_ATTACKS = new long[Bitboards.COLORS][Bitboards.SQUARES];
+
+	private static final long[] ROOK_MASKS = new long[Bitboards.SQUARES];
+	private static final int[] ROOK_SHIFTS = new int[Bitboards.SQUARES];
+	private static final long[][] ROOK_ATTACKS = new long[Bitboards.SQUARES][];
+	private static final long[] BISHOP_MASKS = new long[Bitboards.SQUARES];
+	private static final int[] BISHOP_SHIFTS = new int[Bitboards.SQUARES];
+	private static final long[][] BISHOP_ATTACKS = new long[Bitboards.SQUARES][];
+
+	static {
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			int x = Bitboards.x(square);
+			int y = Bitboards.y(square);
+			for (int[] jump : KNIGHT_JUMPS) {
+				KNIGHT_ATTACKS[square] |= bitIfInside(x + jump[0], y + jump[1]);
+			}
+			for (int dx = -DRAGON_MOVE_RANGE; dx <= DRAGON_MOVE_RANGE; dx++) {
+				for (int dy = -DRAGON_MOVE_RANGE; dy <= DRAGON_MOVE_RANGE; dy++) {
+					if (dx == 0 && dy == 0) {
+						continue;
+					}
+					long bit = bitIfInside(x + dx, y + dy);
+					DRAGON_MOVES[square] |= bit;
+					if (Math.abs(dx) <= 1 && Math.abs(dy) <= 1) {
+						KING_ATTACKS[square] |= bit;
+					}
+				}
+			}
+			PAWN_ATTACKS[Color.WHITE.ordinal()][square] = bitIfInside(x - 1, y + 1) | bitIfInside(x + 1, y + 1);
+			PAWN_ATTACKS[Color.BLACK.ordinal()][square] = bitIfInside(x - 1, y - 1) | bitIfInside(x + 1, y - 1);
+
+			initSlidingAttacks(square, ROOK_DIRECTIONS, ROOK_MAGICS, ROOK_MASKS, ROOK_SHIFTS, ROOK_ATTACKS);
+			initSlidingAttacks(square, BISHOP_DIRECTIONS, BISHOP_MAGICS, BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+		}
+	}
+
+	private AttackTables() {
+	}
+
+	public static long knightAttacks(int square) {
+		return KNIGHT_ATTACKS[square];
+	}
+
+	public static long kingAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * Dragon captures like a king, so its attacks are the king attacks
+	 */
+	public static long dragonAttacks(int square) {
+		return KING_ATTACKS[square];
+	}
+
+	/**
+	 * Dragon moves (without capture) to any field within three fields range,
+	 * leaping over other pieces
+	 */
+	public static long dragonMoves(int square) {
+		return DRAGON_MOVES[square];
+	}
+
+	public static long pawnAttacks(Color color, int square) {
+		return PAWN_ATTACKS[color.ordinal()][square];
+	}
+
+	public static long rookAttacks(int square, long occupancy) {
+		long blockers = occupancy & ROOK_MASKS[square];
+		return ROOK_ATTACKS[square][(int) ((blockers * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+	}
+
+	public static long bishopAttacks(int square, long occupancy) {
+		long blockers = occupancy & BISHOP_MASKS[square];
+		return BISHOP_ATTACKS[square][(int) ((blockers * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+	}
+
+	public static long queenAttacks(int square, long occupancy) {
+		return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+	}
+
+	/**
+	 * Gets fields between two fields lying on the same rank, file or diagonal
+	 *
+	 * @param from index of the first field
+	 * @param to index of the second field
+	 * @return bitboard of fields between (without both fields), empty if
+	 *         fields are not on one line
+	 */
+	public static long between(int from, int to) {
+		long fromBit = Bitboards.bit(from);
+		long toBit = Bitboards.bit(to);
+		if ((rookAttacks(from, Bitboards.EMPTY) & toBit) != 0) {
+			return rookAttacks(from, toBit) & rookAttacks(to, fromBit);
+		}
+		if ((bishopAttacks(from, Bitboards.EMPTY) & toBit) != 0) {
+			return bishopAttacks(from, toBit) & bishopAttacks(to, fromBit);
+		}
+		return Bitboards.EMPTY;
+	}
+
+	/**
+	 * Checks if field is attacked by any piece of given color
+	 *
+	 * @param board chess board
+	 * @param square index of the field
+	 * @param attackerColor color of attacking pieces
+	 * @return true if any piece of attacker color could capture on the field
+	 */
+	public static boolean isSquareAttacked(Board board, int square, Color attackerColor) {
+		Color defenderColor = attackerColor == Color.WHITE ? Color.BLACK : Color.WHITE;
+		if ((PAWN_ATTACKS[defenderColor.ordinal()][square]
+				& board.getPieceBitboard(attackerColor, PieceType.PAWN)) != 0) {
+			return true;
+		}
+		if ((KNIGHT_ATTACKS[square] & board.getPieceBitboard(attackerColor, PieceType.KNIGHT)) != 0) {
+			return true;
+		}
+		if ((KING_ATTACKS[square] & (board.getPieceBitboard(attackerColor, PieceType.KING)
+				| board.getPieceBitboard(attackerColor, PieceType.DRAGON))) != 0) {
+			return true;
+		}
+		long occupancy = board.getOccupancy();
+		long queens = board.getPieceBitboard(attackerColor, PieceType.QUEEN);
+		if ((bishopAttacks(square, occupancy)
+				& (board.getPieceBitboard(attackerColor, PieceType.BISHOP) | queens)) != 0) {
+			return true;
+		}
+		return (rookAttacks(square, occupancy) & (board.getPieceBitboard(attackerColor, PieceType.ROOK) | queens)) != 0;
+	}
+
+	/**
+	 * Finds pieces of both colors attacking the field. Only pieces on fields
+	 * set in the occupancy are taken into account, and sliding pieces are
+	 * blocked by them, so removing pieces from the occupancy reveals
+	 * attackers behind them (x-rays).
+	 *
+	 * @param board chess board
+	 * @param square index of the field
+	 * @param occupancy fields occupied by pieces
+	 * @return bitboard of fields of attacking pieces
+	 */
+	public static long attackersTo(Board board, int square, long occupancy) {
+		long attackers = (PAWN_ATTACKS[Color.BLACK.ordinal()][square] & board.getPieceBitboard(Color.WHITE, PieceType.PAWN))
+				| (PAWN_ATTACKS[Color.WHITE.ordinal()][square] & board.getPieceBitboard(Color.BLACK, PieceType.PAWN))
+				| (KNIGHT_ATTACKS[square] & piecesOfBothColors(board, PieceType.KNIGHT))
+				| (KING_ATTACKS[square] & (piecesOfBothColors(board, PieceType.KING)
+						| piecesOfBothColors(board, PieceType.DRAGON)));
+		long queens = piecesOfBothColors(board, PieceType.QUEEN);
+		attackers |= bishopAttacks(square, occupancy) & (piecesOfBothColors(board, PieceType.BISHOP) | queens);
+		attackers |= rookAttacks(square, occupancy) & (piecesOfBothColors(board, PieceType.ROOK) | queens);
+		return attackers & occupancy;
+	}
+
+	private static long piecesOfBothColors(Board board, PieceType type) {
+		return board.getPieceBitboard(Color.WHITE, type) | board.getPieceBitboard(Color.BLACK, type);
+	}
+
+	private static long bitIfInside(int x, int y) {
+		return Bitboards.isInsideBoard(x, y) ? Bitboards.bit(Bitboards.square(x, y)) : Bitboards.EMPTY;
+	}
+
+	private static void initSlidingAttacks(int square, int[][] directions, long[] magics, long[] masks,
+			int[] shifts, long[][] attacks) {
+		long mask = relevantBlockersMask(square, directions);
+		int bits = Long.bitCount(mask);
+		masks[square] = mask;
+		shifts[square] = Bitboards.SQUARES - bits;
+		attacks[square] = new long[1 << bits];
+
+		// enumerate all subsets of the mask (Carry-Rippler)
+		long blockers = 0;
+		do {
+			int index = (int) ((blockers * magics[square]) >>> shifts[square]);
+			attacks[square][index] = slidingAttacks(square, blockers, directions);
+			blockers = (blockers - mask) & mask;
+		} while (blockers != 0);
+	}
+
+	private static long relevantBlockersMask(int square, int[][] directions) {
+		long mask = 0;
+		for (int[] direction : directions) {
+			int x = Bitboards.x(square) + direction[0];
+			int y = Bitboards.y(square) + direction[1];
+			while (Bitboards.isInsideBoard(x + direction[0], y + direction[1])) {
+				mask |= Bitboards.bit(Bitboards.square(x, y));
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return mask;
+	}
+
+	private static long slidingAttacks(int square, long occupancy, int[][] directions) {
+		long attacks = 0;
+		for (int[] direction : directions) {
+			int x = Bitboards.x(square) + direction[0];
+			int y = Bitboards.y(square) + direction[1];
+			while (Bitboards.isInsideBoard(x, y)) {
+				long bit = Bitboards.bit(Bitboards.square(x, y));
+				attacks |= bit;
+				if ((occupancy & bit) != 0) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+}
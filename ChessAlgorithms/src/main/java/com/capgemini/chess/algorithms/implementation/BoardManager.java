@@ -1,25 +1,24 @@
 package com.capgemini.chess.algorithms.implementation;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
-import com.capgemini.chess.algorithms.data.Path;
-import com.capgemini.chess.algorithms.data.PieceCoordinate;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.DrawCondition;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidation;
 import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
-import com.capgemini.chess.algorithms.data.pieces.Bishop;
-import com.capgemini.chess.algorithms.data.pieces.King;
-import com.capgemini.chess.algorithms.data.pieces.Knight;
-import com.capgemini.chess.algorithms.data.pieces.Pawn;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.data.generated.Fen;
 import com.capgemini.chess.algorithms.data.pieces.Piece;
-import com.capgemini.chess.algorithms.data.pieces.Queen;
-import com.capgemini.chess.algorithms.data.pieces.Rook;
 import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
 import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckException;
 
@@ -31,10 +30,18 @@ import com.capgemini.chess.algorithms.implementation.exceptions.KingInCheckExcep
  */
 public class BoardManager {
 
+	private static final int FIFTY_MOVE_RULE_PLIES = 100;
+	private static final int SEVENTY_FIVE_MOVE_RULE_PLIES = 150;
+	private static final MoveValidation[] VALIDATIONS = MoveValidation.values();
+
 	private Board board = new Board();
+	private final MoveGenerator moveGenerator = new MoveGenerator(this);
+	private final StaticExchange staticExchange = new StaticExchange(this);
+	private volatile BoardSnapshot snapshot;
 
 	public BoardManager() {
 		initBoard();
+		publishSnapshot();
 	}
 
 	public BoardManager(List<Move> moves) {
@@ -42,10 +49,23 @@ public class BoardManager {
 		for (Move move : moves) {
 			addMove(move);
 		}
+		publishSnapshot();
 	}
 
 	public BoardManager(Board board) {
 		this.board = board;
+		publishSnapshot();
+	}
+
+	/**
+	 * Creates board manager with position loaded from FEN
+	 *
+	 * @param fen position in Forsyth-Edwards Notation
+	 * @throws IllegalArgumentException if FEN is not valid
+	 */
+	public BoardManager(String fen) {
+		this.board = Fen.parse(fen);
+		publishSnapshot();
 	}
 
 	/**
@@ -57,6 +77,26 @@ public class BoardManager {
 		return this.board;
 	}
 
+	/**
+	 * Gets snapshot of the board published after the last move performed or
+	 * board state calculated by this board manager. Snapshot is immutable, so
+	 * it can be read by other threads (for example spectators of the game)
+	 * without locking while next moves are performed.
+	 *
+	 * @return snapshot of the board
+	 */
+	public BoardSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Publishes snapshot of the current position of the board, for example
+	 * after the board was modified directly
+	 */
+	public void publishSnapshot() {
+		snapshot = board.createSnapshot();
+	}
+
 	/**
 	 * Performs move of the chess piece on the chess board from one field to
 	 * another.
@@ -71,13 +111,83 @@ public class BoardManager {
 	 */
 	public Move performMove(Coordinate from, Coordinate to) throws InvalidMoveException {
 
-		Move move = validateMove(from, to);
+		int packedMove = validateMove(from, to);
+		if (packedMove < 0) {
+			throw createException(VALIDATIONS[~packedMove]);
+		}
 
+		Move move = PackedMove.toMove(packedMove, board);
 		addMove(move);
+		publishSnapshot();
 
 		return move;
 	}
 
+	/**
+	 * Checks if move of the chess piece from one field to another is valid,
+	 * without performing it. Invalid moves are reported by the result, no
+	 * exception is thrown.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return {@link MoveValidation#VALID} or reason why move is not valid
+	 */
+	public MoveValidation checkMove(Coordinate from, Coordinate to) {
+		int packedMove = validateMove(from, to);
+		return packedMove < 0 ? VALIDATIONS[~packedMove] : MoveValidation.VALID;
+	}
+
+	/**
+	 * Performs move of the chess piece from one field to another if it is
+	 * valid. Unlike {@link #performMove(Coordinate, Coordinate)}, invalid
+	 * moves are reported by the result, no exception is thrown.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return {@link MoveValidation#VALID} if move was performed or reason why
+	 *         move is not valid
+	 */
+	public MoveValidation tryMove(Coordinate from, Coordinate to) {
+		int packedMove = validateMove(from, to);
+		if (packedMove < 0) {
+			return VALIDATIONS[~packedMove];
+		}
+
+		addMove(PackedMove.toMove(packedMove, board));
+		publishSnapshot();
+
+		return MoveValidation.VALID;
+	}
+
+	/**
+	 * Performs move of the chess piece from one field to another if it is
+	 * valid, without adding it to move history and without publishing the
+	 * snapshot, so no objects are created. Meant for validating many moves in
+	 * a row; {@link #updateBoardState()} publishes the snapshot after the last
+	 * move.
+	 *
+	 * @param from
+	 *            coordinates of 'from' field
+	 * @param to
+	 *            coordinates of 'to' field
+	 * @return {@link MoveValidation#VALID} if move was performed or reason why
+	 *         move is not valid
+	 */
+	public MoveValidation makeMove(Coordinate from, Coordinate to) {
+		int packedMove = validateMove(from, to);
+		if (packedMove < 0) {
+			return VALIDATIONS[~packedMove];
+		}
+
+		board.makeMove(packedMove);
+
+		return MoveValidation.VALID;
+	}
+
 	/**
 	 * Calculates state of the chess board.
 	 *
@@ -105,9 +215,75 @@ public class BoardManager {
 			}
 		}
 		this.board.setState(boardState);
+		publishSnapshot();
 		return boardState;
 	}
 
+	/**
+	 * Generates all legal moves of pieces of given color, including castling,
+	 * en passant, pawn double moves and promotions (pawn moving to the last row
+	 * is promoted to queen when the move is performed).
+	 *
+	 * @param color color of moving pieces
+	 * @return list of legal moves
+	 */
+	public List<Move> generateLegalMoves(Color color) {
+		return moveGenerator.generateLegalMoves(color);
+	}
+
+	/**
+	 * Generates all legal moves of pieces of given color as moves packed with
+	 * {@link PackedMove}. Given list is cleared and reused, so no objects are
+	 * allocated once the list is large enough.
+	 *
+	 * @param color color of moving pieces
+	 * @param moves list which is filled with legal moves
+	 */
+	public void generateLegalMoves(Color color, MoveList moves) {
+		moves.clear();
+		moveGenerator.generateLegalMoves(color, moves);
+	}
+
+	/**
+	 * Evaluates exchange of pieces started by capture from one field to
+	 * another: both sides keep recapturing on the target field with their
+	 * least valuable piece as long as it pays off. Pieces behind the
+	 * capturing ones (x-rays) join the exchange. Pins are not taken into
+	 * account.
+	 *
+	 * @param from
+	 *            coordinates of the field of the capturing piece
+	 * @param to
+	 *            coordinates of the captured piece
+	 * @return material gain of the capturing side in centipawns, negative if
+	 *         capture loses material
+	 * @throws IllegalArgumentException
+	 *             if any of the fields is outside the board or there is no
+	 *             piece on 'from' field
+	 */
+	public int staticExchangeEvaluation(Coordinate from, Coordinate to) {
+		if (!isInsideBoard(from) || !isInsideBoard(to)) {
+			throw new IllegalArgumentException("Field outside the board: " + from.getX() + ", " + from.getY()
+					+ " -> " + to.getX() + ", " + to.getY());
+		}
+		if (board.getPieceAt(from) == null) {
+			throw new IllegalArgumentException("No piece at " + from.getX() + ", " + from.getY());
+		}
+		return staticExchange.evaluate(Bitboards.square(from), Bitboards.square(to));
+	}
+
+	/**
+	 * Evaluates exchange of pieces started by packed move, see
+	 * {@link #staticExchangeEvaluation(Coordinate, Coordinate)}
+	 *
+	 * @param move
+	 *            move packed with {@link PackedMove}
+	 * @return material gain of the moving side in centipawns
+	 */
+	public int staticExchangeEvaluation(int move) {
+		return staticExchange.evaluate(PackedMove.getFrom(move), PackedMove.getTo(move));
+	}
+
 	/**
 	 * Checks threefold repetition rule (one of the conditions to end the chess
 	 * game with a draw).
@@ -115,23 +291,7 @@ public class BoardManager {
 	 * @return true if current state repeated at list two times, false otherwise
 	 */
 	public boolean checkThreefoldRepetitionRule() {
-
-		int lastNonAttackMoveIndex = findLastNonAttackMoveIndex();
-		List<Move> omittedMoves = this.board.getMoveHistory().subList(0, lastNonAttackMoveIndex);
-		BoardManager simulatedBoardManager = new BoardManager(omittedMoves);
-
-		int counter = 0;
-		for (int i = lastNonAttackMoveIndex; i < this.board.getMoveHistory().size(); i++) {
-			Move moveToAdd = this.board.getMoveHistory().get(i);
-			simulatedBoardManager.addMove(moveToAdd);
-			boolean areBoardsEqual = Arrays.deepEquals(this.board.getPieces(),
-					simulatedBoardManager.getBoard().getPieces());
-			if (areBoardsEqual) {
-				counter++;
-			}
-		}
-
-		return counter >= 2;
+		return this.board.countRepetitions() >= 2;
 	}
 
 	/**
@@ -142,162 +302,141 @@ public class BoardManager {
 	 *         last 50 moves, false otherwise
 	 */
 	public boolean checkFiftyMoveRule() {
+		return this.board.getHalfmoveClock() >= FIFTY_MOVE_RULE_PLIES;
+	}
 
-		if (this.board.getMoveHistory().size() < 100) {
-			return false;
+	/**
+	 * Checks all draw conditions which do not depend on legal moves
+	 * (stalemate is reported by {@link #updateBoardState()}). Repetitions are
+	 * counted once for both repetition rules.
+	 *
+	 * @return draw conditions which are met, empty if none
+	 */
+	public Set<DrawCondition> evaluateDrawConditions() {
+		Set<DrawCondition> drawConditions = EnumSet.noneOf(DrawCondition.class);
+
+		int repetitions = this.board.countRepetitions();
+		if (repetitions >= 2) {
+			drawConditions.add(DrawCondition.THREEFOLD_REPETITION);
+		}
+		if (repetitions >= 4) {
+			drawConditions.add(DrawCondition.FIVEFOLD_REPETITION);
 		}
 
-		for (int i = this.board.getMoveHistory().size() - 1; i >= this.board.getMoveHistory().size() - 100; i--) {
-			Move currentMove = this.board.getMoveHistory().get(i);
-			PieceType currentPieceType = currentMove.getMovedPiece().getType();
-			if (currentMove.getType() != MoveType.MOVEMENT || currentPieceType == PieceType.PAWN) {
-				return false;
-			}
+		int halfmoveClock = this.board.getHalfmoveClock();
+		if (halfmoveClock >= FIFTY_MOVE_RULE_PLIES) {
+			drawConditions.add(DrawCondition.FIFTY_MOVE_RULE);
+		}
+		if (halfmoveClock >= SEVENTY_FIVE_MOVE_RULE_PLIES) {
+			drawConditions.add(DrawCondition.SEVENTY_FIVE_MOVE_RULE);
 		}
 
-		return true;
+		if (isMaterialInsufficient()) {
+			drawConditions.add(DrawCondition.INSUFFICIENT_MATERIAL);
+		}
+		return drawConditions;
 	}
 
 	private void initBoard() {
 
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(2, 7));
-		this.board.setPieceAt(new Queen(Color.BLACK), new Coordinate(3, 7));
-		this.board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
-		this.board.setPieceAt(new Bishop(Color.BLACK), new Coordinate(5, 7));
-		this.board.setPieceAt(new Knight(Color.BLACK), new Coordinate(6, 7));
-		this.board.setPieceAt(new Rook(Color.BLACK), new Coordinate(7, 7));
+		this.board.setPieceAt(Piece.of(PieceType.ROOK, Color.BLACK), Coordinate.of(0, 7));
+		this.board.setPieceAt(Piece.of(PieceType.KNIGHT, Color.BLACK), Coordinate.of(1, 7));
+		this.board.setPieceAt(Piece.of(PieceType.BISHOP, Color.BLACK), Coordinate.of(2, 7));
+		this.board.setPieceAt(Piece.of(PieceType.QUEEN, Color.BLACK), Coordinate.of(3, 7));
+		this.board.setPieceAt(Piece.of(PieceType.KING, Color.BLACK), Coordinate.of(4, 7));
+		this.board.setPieceAt(Piece.of(PieceType.BISHOP, Color.BLACK), Coordinate.of(5, 7));
+		this.board.setPieceAt(Piece.of(PieceType.KNIGHT, Color.BLACK), Coordinate.of(6, 7));
+		this.board.setPieceAt(Piece.of(PieceType.ROOK, Color.BLACK), Coordinate.of(7, 7));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(x, 6));
+			this.board.setPieceAt(Piece.of(PieceType.PAWN, Color.BLACK), Coordinate.of(x, 6));
 		}
 
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(2, 0));
-		this.board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
-		this.board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
-		this.board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(5, 0));
-		this.board.setPieceAt(new Knight(Color.WHITE), new Coordinate(6, 0));
-		this.board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		this.board.setPieceAt(Piece.of(PieceType.ROOK, Color.WHITE), Coordinate.of(0, 0));
+		this.board.setPieceAt(Piece.of(PieceType.KNIGHT, Color.WHITE), Coordinate.of(1, 0));
+		this.board.setPieceAt(Piece.of(PieceType.BISHOP, Color.WHITE), Coordinate.of(2, 0));
+		this.board.setPieceAt(Piece.of(PieceType.QUEEN, Color.WHITE), Coordinate.of(3, 0));
+		this.board.setPieceAt(Piece.of(PieceType.KING, Color.WHITE), Coordinate.of(4, 0));
+		this.board.setPieceAt(Piece.of(PieceType.BISHOP, Color.WHITE), Coordinate.of(5, 0));
+		this.board.setPieceAt(Piece.of(PieceType.KNIGHT, Color.WHITE), Coordinate.of(6, 0));
+		this.board.setPieceAt(Piece.of(PieceType.ROOK, Color.WHITE), Coordinate.of(7, 0));
 
 		for (int x = 0; x < Board.SIZE; x++) {
-			this.board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(x, 1));
+			this.board.setPieceAt(Piece.of(PieceType.PAWN, Color.WHITE), Coordinate.of(x, 1));
 		}
 	}
 
 	private void addMove(Move move) {
-
-		addRegularMove(move);
-
-		if (move.getType() == MoveType.CASTLING) {
-			addCastling(move);
-		} else if (move.getType() == MoveType.EN_PASSANT) {
-			addEnPassant(move);
-		}
-		
-		if(move.getMovedPiece()!=null){
-			move.getMovedPiece().setMovedThisGame(true);
-		}
-		
-		this.board.getMoveHistory().add(move);
+		this.board.makeMove(move);
 	}
 
-	private void addRegularMove(Move move) {
-		Piece movedPiece = this.board.getPieceAt(move.getFrom());
-		movedPiece.setMovedThisGame(true);		
-		this.board.setPieceAt(null, move.getFrom());
-		this.board.setPieceAt(movedPiece, move.getTo());
-
-		performPromotion(move, movedPiece);
-	}
+	/**
+	 * Validates move without creating objects
+	 *
+	 * @return packed move if move is valid, otherwise bitwise complement of
+	 *         ordinal of {@link MoveValidation} (negative number)
+	 */
+	private int validateMove(Coordinate from, Coordinate to) {
 
-	private void performPromotion(Move move, Piece movedPiece) {
-		if (movedPiece.getType() == PieceType.PAWN && movedPiece.getColor() == Color.WHITE && 
-			move.getTo().getY() == (Board.SIZE - 1)) {
-			this.board.setPieceAt(new Queen(Color.WHITE), move.getTo());
-		}
-		if (movedPiece.getType() == PieceType.PAWN && movedPiece.getColor() == Color.BLACK && 
-				move.getTo().getY() == 0) {
-			this.board.setPieceAt(new Queen(Color.BLACK), move.getTo());
+		MoveValidation validation = initialPieceValidation(from, to);
+		if (validation != MoveValidation.VALID) {
+			return ~validation.ordinal();
 		}
-	}
-
-	private void addCastling(Move move) {
-		Piece rook;
-		if (move.getFrom().getX() > move.getTo().getX()) {
-			rook = this.board.getPieceAt(new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(0, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() + 1, move.getTo().getY()));
-		} else {
-			rook = this.board.getPieceAt(new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(null, new Coordinate(Board.SIZE - 1, move.getFrom().getY()));
-			this.board.setPieceAt(rook, new Coordinate(move.getTo().getX() - 1, move.getTo().getY()));
-		}
-		rook.setMovedThisGame(true);
-	}
-
-	private void addEnPassant(Move move) {
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		this.board.setPieceAt(null, lastMove.getTo());
-	}
-
-	private Move validateMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException {
-
-		initialPieceValidation(from,to);	
 		Piece fromCoordinateTo = board.getPieceAt(to);
+		if(fromCoordinateTo != null && fromCoordinateTo.getColor()==calculateNextMoveColor()){
+			return ~MoveValidation.CAPTURE_OF_OWN_PIECE.ordinal();
+		}
 		
-		if(fromCoordinateTo==null){			
-			return checkForMovementMove(from, to);		
-		} else {		
-			if(validateCapture(from,to)){
-				Move initialMove = new Move(from,to,MoveType.CAPTURE,board.getPieceAt(from));
-				return checkForSelfCheck(initialMove);
-			}			
+		MoveType moveType = moveGenerator.findPseudoLegalMoveType(from, to);
+		if(moveType == null){
+			if(fromCoordinateTo == null){
+				return ~MoveValidation.PIECE_CANNOT_MOVE_THERE.ordinal();
+			}
+			return ~MoveValidation.PIECE_CANNOT_CAPTURE_THERE.ordinal();
 		}
 		
-		throw new InvalidMoveException();
+		int packedMove = PackedMove.pack(Bitboards.square(from), Bitboards.square(to), moveType, board);
+		if(!moveGenerator.isLegal(packedMove, calculateNextMoveColor())){
+			return ~MoveValidation.KING_IN_CHECK.ordinal();
+		}
+		return packedMove;
 	}
 
 	private boolean isKingInCheck(Color kingColor) {
 		
-		Coordinate to = getKingCoordinate(kingColor);
-		if(to == null){
+		int kingSquare = board.getKingSquare(kingColor);
+		if(kingSquare == Bitboards.NO_SQUARE){
 			return false;
 		}
 		
-		return isFieldUnderAttack(to, getEnemyColor(kingColor));		
+		return AttackTables.isSquareAttacked(board, kingSquare, getEnemyColor(kingColor));
 	}
 
 	private boolean isAnyMoveValid(Color nextMoveColor) {
-		
-		ArrayList<PieceCoordinate> piecesWithCoordinates = getAllPiecesOfColor(nextMoveColor);
-		
-		for (int i = 0; i < piecesWithCoordinates.size(); i++) {
-			
-			for(int x=0; x<Board.SIZE; x++){
-				for(int y=0; y<Board.SIZE; y++){
-					try {
-						validateMove(piecesWithCoordinates.get(i).getPosition(), new Coordinate(x,y));
-						return true;
-					} catch (KingInCheckException e) {
-						continue;
-					} catch (InvalidMoveException e) {
-						continue;
-					}				
-				}
-			}			
+		return moveGenerator.hasLegalMove(nextMoveColor);
+	}
+
+	/**
+	 * Checks if none of the players can mate: only kings are left, with at
+	 * most one bishop or knight
+	 */
+	private boolean isMaterialInsufficient() {
+		long minorPieces = Bitboards.EMPTY;
+		for (Color color : Color.values()) {
+			if (board.getPieceBitboard(color, PieceType.PAWN) != Bitboards.EMPTY
+					|| board.getPieceBitboard(color, PieceType.QUEEN) != Bitboards.EMPTY
+					|| board.getPieceBitboard(color, PieceType.ROOK) != Bitboards.EMPTY
+					|| board.getPieceBitboard(color, PieceType.DRAGON) != Bitboards.EMPTY) {
+				return false;
+			}
+			minorPieces |= board.getPieceBitboard(color, PieceType.BISHOP)
+					| board.getPieceBitboard(color, PieceType.KNIGHT);
 		}
-		return false;
+		return Long.bitCount(minorPieces) <= 1;
 	}
 
 	private Color calculateNextMoveColor() {
-		if (this.board.getMoveHistory().size() % 2 == 0) {
-			return Color.WHITE;
-		} else {
-			return Color.BLACK;
-		}
+		return this.board.getSideToMove();
 	}
 	
 	private Color getEnemyColor(Color color) {
@@ -308,355 +447,50 @@ public class BoardManager {
 		}
 	}
 
-	private int findLastNonAttackMoveIndex() {
-		int counter = 0;
-		int lastNonAttackMoveIndex = 0;
-
-		for (Move move : this.board.getMoveHistory()) {
-			if (move.getType() != MoveType.MOVEMENT) {
-				lastNonAttackMoveIndex = counter;
-			}
-			counter++;
-		}
-
-		return lastNonAttackMoveIndex;
-	}
-	
 	private boolean isInsideBoard(Coordinate coordinate){
-		return coordinate.getX()>=0 && coordinate.getX() < Board.SIZE &&
-			   coordinate.getY()>=0 && coordinate.getY() < Board.SIZE;
-	}
-	
-	private ArrayList<Coordinate> calculateInitialPossibleMoveCoordinates(Coordinate from, Coordinate to, ArrayList<Path> initialPossibleMovePaths){
-		ArrayList<Coordinate> initialPossibleMoveCoordinates = new ArrayList<Coordinate>();
-			
-		for(Path path: initialPossibleMovePaths){
-			Coordinate lastCoordinate = from;
-				
-			boolean cancelLoop = false;
-			while(!cancelLoop){
-				Coordinate nextCoordinate = lastCoordinate.nextFromPath(path);
-				if(isInsideBoard(nextCoordinate)){
-					if(board.getPieceAt(nextCoordinate) == null){				
-						initialPossibleMoveCoordinates.add(nextCoordinate);
-						lastCoordinate = nextCoordinate;
-						if(!path.isRepeat()){
-							cancelLoop = true;							
-						}
-					} else {
-						cancelLoop = true;
-					}	
-				} else{
-					cancelLoop = true;
-				}												
-			}				
-		}	
-		
-		return initialPossibleMoveCoordinates;
-	}
-
-	private ArrayList<Coordinate> calculateInitialPossibleCaptureCoordinates
-	(Coordinate from, Coordinate to, ArrayList<Path> initialPossibleCapturePaths, Color attackerColor){
-		
-		ArrayList<Coordinate> initialPossibleCaptureCoordinates = new ArrayList<Coordinate>();
-			
-		for(Path path: initialPossibleCapturePaths){
-			Coordinate lastCoordinate = from;
-					
-			boolean cancelLoop = false;
-			while(!cancelLoop){
-				Coordinate nextCoordinate = lastCoordinate.nextFromPath(path);
-				if(isInsideBoard(nextCoordinate)){
-					if(board.getPieceAt(nextCoordinate) == null){
-						lastCoordinate = nextCoordinate;
-						if(!path.isRepeat()){
-							cancelLoop = true;							
-						}
-					} else {	
-						if(board.getPieceAt(nextCoordinate).getColor()==attackerColor){
-							cancelLoop = true;
-						} else {
-							initialPossibleCaptureCoordinates.add(nextCoordinate);
-							lastCoordinate = nextCoordinate;
-							cancelLoop = true;	
-						}				
-					}	
-				} else{
-					cancelLoop = true;
-				}												
-			}				
-		}	
-		return initialPossibleCaptureCoordinates;
+		return coordinate.getIndex() != Coordinate.NO_INDEX;
 	}
 	
-	private ArrayList<PieceCoordinate> getAllPiecesOfColor(Color color){
-		ArrayList<PieceCoordinate> piecesWithCoords = new ArrayList<PieceCoordinate>();
-		
-		for(int i=0; i<Board.SIZE; i++){
-			for(int j=0; j<Board.SIZE; j++){
-				Coordinate currentCoordinate = new Coordinate(i,j);
-				Piece currentPiece = board.getPieceAt(currentCoordinate);
-				if(currentPiece != null && currentPiece.getColor() == color){
-					piecesWithCoords.add(new PieceCoordinate(currentPiece,currentCoordinate));
-				}
-			}
-		}
-		return piecesWithCoords;
-	}
-	
-	private Coordinate getKingCoordinate(Color color){
-		Coordinate kingCoordinate = null;
-		
-		for(int i=0; i<Board.SIZE; i++){
-			for(int j=0; j<Board.SIZE; j++){
-				Coordinate currentCoordinate = new Coordinate(i,j);
-				Piece currentPiece = board.getPieceAt(currentCoordinate);
-				if(currentPiece != null && currentPiece.getType() == PieceType.KING && currentPiece.getColor() == color){
-					kingCoordinate = currentCoordinate;
-				}
-			}
-		}
-		return kingCoordinate;
-	}
-	
-	private void initialPieceValidation(Coordinate from, Coordinate to) throws InvalidMoveException {
+	private MoveValidation initialPieceValidation(Coordinate from, Coordinate to) {
 		if(!isInsideBoard(from)){
-			throw new InvalidMoveException("Incorrect start position.");
+			return MoveValidation.INCORRECT_START_POSITION;
 		}
 		if(!isInsideBoard(to)){
-			throw new InvalidMoveException("Incorrect final position.");
+			return MoveValidation.INCORRECT_FINAL_POSITION;
 		}
 		Piece piece = board.getPieceAt(from);
 		if(piece == null){
-			throw new InvalidMoveException("There is no piece at the start position.");
+			return MoveValidation.NO_PIECE_AT_START_POSITION;
 		}
 		if(piece.getColor() != calculateNextMoveColor()){
-			throw new InvalidMoveException("This is not your piece.");
-		}	
-	}
-	
-	private boolean moveCausesSelfCheck(Move moveToTest){
-		Board newBoard = board.generateCopy();
-		BoardManager testBoardManager = new BoardManager(newBoard);
-		testBoardManager.addMove(moveToTest);
-		
-		if(testBoardManager.isKingInCheck(calculateNextMoveColor())){
-			return true;
-		} else {
-			return false;
+			return MoveValidation.NOT_YOUR_PIECE;
 		}
+		return MoveValidation.VALID;
 	}
 	
-	private boolean validateCastling(Coordinate kingStart, Coordinate kingDestination){
-		
-		King king = ((King)board.getPieceAt(kingStart));
-		
-		if(isKingInCheck(calculateNextMoveColor())){
-			return false;
+	private static InvalidMoveException createException(MoveValidation validation) {
+		if (validation == MoveValidation.KING_IN_CHECK) {
+			return new KingInCheckException();
 		}
-		
-		if(king.isMovedThisGame()){
-			return false;
-		}
-				
-		ArrayList<Path> initialPossibleCastlingPaths = king.getCastlingPaths();
-		ArrayList<Coordinate> initialPossibleCastlingCoordinates = 
-				calculateInitialPossibleMoveCoordinates(kingStart, kingDestination, initialPossibleCastlingPaths);
-				
-		if(!initialPossibleCastlingCoordinates.contains(kingDestination)){
-			return false;
+		if (validation.getMessage() == null) {
+			return new InvalidMoveException();
 		}
-		
-		int rookX = 0;
-		int rookY = 0;
-		int direction = -1;
-		
-		if(kingStart.getX()<kingDestination.getX()){
-			rookX= Board.SIZE-1;	
-			direction = 1;
-		}
-		
-		if(king.getColor() == Color.BLACK){
-			rookY = Board.SIZE-1;
-		} 
-		
-		Coordinate rookCoordinate = new Coordinate(rookX,rookY);
-		
-		Piece piece = board.getPieceAt(rookCoordinate);
-		if (piece == null){
-			return false;
-		}
-		if(piece.getType() != PieceType.ROOK){
-			return false;
-		}
-		if(piece.isMovedThisGame()){
-			return false;
-		}
-		
-		for(int x=kingStart.getX()+direction;x<rookX;x+=direction){
-			if(board.getPieceAt(new Coordinate(x,rookY)) != null){
-				return false;
-			}
-		}
-		
-		if(isFieldUnderAttack(new Coordinate((kingStart.getX()+kingDestination.getX())/2,rookY),getEnemyColor(king.getColor()))){
-			return false;
-		}
-		
-		return true;
+		return new InvalidMoveException(validation.getMessage());
 	}
 	
-	private boolean isFieldUnderAttack(Coordinate field, Color attackerColor) {
-		
-		if(field == null){
-			return false;
-		} 
-		
-		Piece piece = board.getPieceAt(field);
-			
-		if(piece != null && piece.getColor() == attackerColor){
-			return false;
-		}
-						
-		ArrayList<PieceCoordinate> piecesWithCoordinates = getAllPiecesOfColor(attackerColor);	
-		boolean fieldAttacked = false;
-							
-		for (int i = 0; i < piecesWithCoordinates.size() && !fieldAttacked; i++) {
-			PieceCoordinate pc = piecesWithCoordinates.get(i);
-			Coordinate from = pc.getPosition();
-			ArrayList<Path> paths;
-			ArrayList<Coordinate> coordinates;
-			if(piece == null){	
-				paths = pc.getPiece().getMovePaths();
-				coordinates = calculateInitialPossibleMoveCoordinates(from, field, paths);
-			} else {
-				paths = pc.getPiece().getCapturePaths();
-				coordinates = calculateInitialPossibleCaptureCoordinates(from,field,paths,attackerColor);
-			}		
-			
-			if(coordinates.contains(field)){
-				fieldAttacked = true;
-			}					
-
-		}	
-		
-		return fieldAttacked;
-	}
-	
-	private boolean validateEnPassant(Coordinate from, Coordinate to){
-		if(board.getMoveHistory().size()==0){
-			return false;
-		}
-		
-		Move lastMove = this.board.getMoveHistory().get(this.board.getMoveHistory().size() - 1);
-		if(lastMove.getMovedPiece().getType() != PieceType.PAWN){
-			return false;
-		}
-			
-		if(Math.abs((lastMove.getTo().getY()-lastMove.getFrom().getY())) != 2){
-			return false;			
-		}
-		
-		if(board.getPieceAt(to)!=null){
-			return false;
-		}	
-		
-		if(Math.abs((lastMove.getTo().getX()-from.getX())) != 1){
-			return false;
-		}
-		
-		if(!(to.getX() == lastMove.getTo().getX() && to.getY()==(lastMove.getTo().getY()+lastMove.getFrom().getY())/2)){
-			return false;
-		}
-		
-		return true;
-	}
-	
-	private boolean validatePawnDoubleMove(Coordinate from, Coordinate to){
-		
-		Piece piece = board.getPieceAt(from);
-		Pawn pawn = ((Pawn)piece);
-		
-		if(piece.isMovedThisGame()){
-			return false;		
-		}
-		
-		if(!pawn.possibleStartCoordinates(calculateNextMoveColor()).contains(from)){
-			return false;
-		}
+	/**
+	 * Checks if move leaves king of given color in check
+	 *
+	 * @param moveToTest packed move to test
+	 * @param color color of the moving side
+	 * @return true if king would be checked after the move, false otherwise
+	 */
+	boolean moveCausesSelfCheck(int moveToTest, Color color){
+		board.makeMove(moveToTest);
+		boolean kingInCheck = isKingInCheck(color);
+		board.unmakeMove();
 		
-		ArrayList<Path> initialPossibleMovePaths = pawn.getDoubleMovePaths();
-		ArrayList<Coordinate> initialPossibleMoveCoordinates = calculateInitialPossibleMoveCoordinates(from,to,initialPossibleMovePaths);
-		if(initialPossibleMoveCoordinates.size()!=2){
-			return false;
-		}	
-				
-		return true;
-	}
-	
-	private Move checkForSelfCheck(Move moveToCheck) throws KingInCheckException{
-		if(moveCausesSelfCheck(moveToCheck)){
-			throw new KingInCheckException();
-		} else {
-			return moveToCheck;	
-		}
-	}
-	
-	private boolean validateCapture(Coordinate from, Coordinate to) throws InvalidMoveException{
-		Piece fromCoordinateTo = board.getPieceAt(to);
-		if (fromCoordinateTo.getColor()==calculateNextMoveColor()){
-			throw new InvalidMoveException("You can't capture your own pieces.");
-		} else {
-			Piece piece = board.getPieceAt(from);
-			ArrayList<Path> initialPossibleCapturePaths = piece.getCapturePaths();
-			ArrayList<Coordinate> initialPossibleCaptureCoordinates = 
-					calculateInitialPossibleCaptureCoordinates(from,to,initialPossibleCapturePaths,calculateNextMoveColor());
-			
-			if(initialPossibleCaptureCoordinates.contains(to)){
-				return true;
-			} else {
-				return false;
-			}
-		}	
-	}
-	
-	private boolean validateNormalMovement(Coordinate from, Coordinate to) {
-		Piece piece = board.getPieceAt(from);
-		ArrayList<Path> initialPossibleMovePaths = piece.getMovePaths();
-		ArrayList<Coordinate> initialPossibleMoveCoordinates = 
-				calculateInitialPossibleMoveCoordinates(from,to,initialPossibleMovePaths);				
-
-		if(initialPossibleMoveCoordinates.contains(to)){	
-			return true;		
-		}
-		return false;
-	}
-	
-	private Move checkForMovementMove(Coordinate from, Coordinate to) throws InvalidMoveException, KingInCheckException{
-		if(validateNormalMovement(from,to)){
-			Move initialMove = new Move(from,to,MoveType.MOVEMENT,board.getPieceAt(from));			
-			return checkForSelfCheck(initialMove);				
-		} else {
-			Piece piece = board.getPieceAt(from);
-			if(piece.getType()==PieceType.PAWN){
-				if(validatePawnDoubleMove(from,to)){
-					Move initialMove = new Move(from,to,MoveType.MOVEMENT,board.getPieceAt(from));
-					return checkForSelfCheck(initialMove);
-				}
-				
-				if(validateEnPassant(from, to)){
-					Move initialMove = new Move(from,to,MoveType.EN_PASSANT,board.getPieceAt(from));
-					return checkForSelfCheck(initialMove);
-				}		
-			} 						
-			if (piece.getType()==PieceType.KING){	
-				if(validateCastling(from, to)){
-					Move initialMove = new Move(from,to,MoveType.CASTLING,board.getPieceAt(from));
-					return checkForSelfCheck(initialMove);
-				}	
-			}		
-			throw new InvalidMoveException("You can't move this piece there.");
-		}	
+		return kingInCheck;
 	}
 	
 }
@@ -0,0 +1,352 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+
+/**
+ * Generator of moves available on the chess board managed by
+ * {@link BoardManager}. Moves are generated from bitboards and attack tables,
+ * pawn moves to the last row are promotions (pawn is replaced by queen when
+ * the move is added to the board).
+ * Legality is decided from pins and checks computed once per position: pinned
+ * pieces move only between own king and the pinning piece, and in check
+ * pieces other than the king only capture the checking piece or block it.
+ * Only king moves (attacks of the destination field) and en passant
+ * captures (made and taken back on the board) are tested separately.
+ *
+ */
+class MoveGenerator {
+
+	private final BoardManager boardManager;
+	private final MoveList scratchMoves = new MoveList();
+	private final long[] pinRays = new long[Bitboards.SQUARES];
+	private long pinnedPieces;
+	private long checkMask;
+
+	MoveGenerator(BoardManager boardManager) {
+		this.boardManager = boardManager;
+	}
+
+	/**
+	 * Generates all legal moves of pieces of given color
+	 *
+	 * @param color color of moving pieces
+	 * @return list of legal moves
+	 */
+	List<Move> generateLegalMoves(Color color) {
+		Board board = boardManager.getBoard();
+		scratchMoves.clear();
+		generate(color, scratchMoves, Integer.MAX_VALUE);
+		List<Move> moves = new ArrayList<>(scratchMoves.size());
+		for (int i = 0; i < scratchMoves.size(); i++) {
+			moves.add(PackedMove.toMove(scratchMoves.get(i), board));
+		}
+		return moves;
+	}
+
+	/**
+	 * Generates all legal moves of pieces of given color as packed moves
+	 *
+	 * @param color color of moving pieces
+	 * @param moves list which legal moves are added to
+	 */
+	void generateLegalMoves(Color color, MoveList moves) {
+		generate(color, moves, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Checks if pieces of given color have at least one legal move
+	 *
+	 * @param color color of moving pieces
+	 * @return true if any legal move exists, false otherwise
+	 */
+	boolean hasLegalMove(Color color) {
+		scratchMoves.clear();
+		generate(color, scratchMoves, 1);
+		return !scratchMoves.isEmpty();
+	}
+
+	/**
+	 * Checks if move allowed by piece movement rules does not leave own king
+	 * in check
+	 *
+	 * @param move packed move
+	 * @param color color of the moving piece
+	 * @return true if move is legal, false otherwise
+	 */
+	boolean isLegal(int move, Color color) {
+		calculateRestrictions(color);
+		int from = PackedMove.getFrom(move);
+		int to = PackedMove.getTo(move);
+		if (PackedMove.getType(move) == MoveType.EN_PASSANT) {
+			return !boardManager.moveCausesSelfCheck(move, color);
+		}
+		if (PackedMove.getMovedPiece(move) == PieceType.KING) {
+			return !isKingDestinationAttacked(color, from, to);
+		}
+		return (restrictTargets(from) & Bitboards.bit(to)) != 0;
+	}
+
+	/**
+	 * Finds type of the move from one field to another which is allowed by
+	 * piece movement rules, without checking if it leaves own king in check
+	 *
+	 * @param from coordinates of 'from' field
+	 * @param to coordinates of 'to' field
+	 * @return type of the move or null if piece cannot move there
+	 */
+	MoveType findPseudoLegalMoveType(Coordinate from, Coordinate to) {
+		Board board = boardManager.getBoard();
+		Piece piece = board.getPieceAt(from);
+		int fromSquare = Bitboards.square(from);
+		int toSquare = Bitboards.square(to);
+		long toBit = Bitboards.bit(toSquare);
+
+		if ((calculateTargets(piece, fromSquare) & toBit) != 0) {
+			return board.isEmpty(toSquare) ? MoveType.MOVEMENT : MoveType.CAPTURE;
+		}
+		if (piece.getType() == PieceType.PAWN && toSquare == getEnPassantSquare(piece.getColor())
+				&& (AttackTables.pawnAttacks(piece.getColor(), fromSquare) & toBit) != 0) {
+			return MoveType.EN_PASSANT;
+		}
+		if (piece.getType() == PieceType.KING && (calculateCastlingTargets(piece, fromSquare) & toBit) != 0) {
+			return MoveType.CASTLING;
+		}
+		return null;
+	}
+
+	private void generate(Color color, MoveList moves, int limit) {
+		Board board = boardManager.getBoard();
+		int initialSize = moves.size();
+		calculateRestrictions(color);
+
+		int pieceCount = board.getPieceCount(color);
+		for (int i = 0; i < pieceCount && moves.size() - initialSize < limit; i++) {
+			int fromSquare = board.getPieceSquare(color, i);
+			Piece piece = board.getPieceAt(fromSquare);
+			PieceType pieceType = piece.getType();
+
+			long targets = calculateTargets(piece, fromSquare);
+			if (pieceType != PieceType.KING) {
+				targets &= restrictTargets(fromSquare);
+			}
+			while (targets != 0 && moves.size() - initialSize < limit) {
+				int toSquare = Long.numberOfTrailingZeros(targets);
+				targets &= targets - 1;
+				Piece capturedPiece = board.getPieceAt(toSquare);
+				boolean promotion = pieceType == PieceType.PAWN
+						&& (Bitboards.y(toSquare) == 0 || Bitboards.y(toSquare) == Board.SIZE - 1);
+				if (pieceType == PieceType.KING && isKingDestinationAttacked(color, fromSquare, toSquare)) {
+					continue;
+				}
+				if (capturedPiece == null) {
+					moves.add(PackedMove.pack(fromSquare, toSquare, MoveType.MOVEMENT, pieceType, null, promotion));
+				} else {
+					moves.add(PackedMove.pack(fromSquare, toSquare, MoveType.CAPTURE, pieceType,
+							capturedPiece.getType(), promotion));
+				}
+			}
+
+			if (pieceType == PieceType.PAWN) {
+				int enPassantSquare = getEnPassantSquare(color);
+				if (enPassantSquare != Bitboards.NO_SQUARE
+						&& Bitboards.isSet(AttackTables.pawnAttacks(color, fromSquare), enPassantSquare)) {
+					// captured pawn leaves its rank too, so pins do not cover en passant
+					int move = PackedMove.pack(fromSquare, enPassantSquare, MoveType.EN_PASSANT, PieceType.PAWN,
+							PieceType.PAWN, false);
+					if (!boardManager.moveCausesSelfCheck(move, color)) {
+						moves.add(move);
+					}
+				}
+			} else if (pieceType == PieceType.KING) {
+				long castlingTargets = calculateCastlingTargets(piece, fromSquare);
+				while (castlingTargets != 0 && moves.size() - initialSize < limit) {
+					int toSquare = Long.numberOfTrailingZeros(castlingTargets);
+					castlingTargets &= castlingTargets - 1;
+					if (!isKingDestinationAttacked(color, fromSquare, toSquare)) {
+						moves.add(PackedMove.pack(fromSquare, toSquare, MoveType.CASTLING, PieceType.KING, null, false));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds pieces checking the king of given color and own pieces pinned to
+	 * it. Check mask contains fields where other pieces can move: the
+	 * checking piece and fields between it and the king (empty in double
+	 * check, all fields when king is not in check).
+	 */
+	private void calculateRestrictions(Color color) {
+		Board board = boardManager.getBoard();
+		pinnedPieces = Bitboards.EMPTY;
+		checkMask = ~Bitboards.EMPTY;
+		int kingSquare = board.getKingSquare(color);
+		if (kingSquare == Bitboards.NO_SQUARE) {
+			return;
+		}
+
+		Color enemyColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		long occupancy = board.getOccupancy();
+		long checkers = AttackTables.attackersTo(board, kingSquare, occupancy) & board.getColorBitboard(enemyColor);
+		if (Long.bitCount(checkers) > 1) {
+			checkMask = Bitboards.EMPTY;
+		} else if (checkers != Bitboards.EMPTY) {
+			checkMask = checkers | AttackTables.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+		}
+
+		long queens = board.getPieceBitboard(enemyColor, PieceType.QUEEN);
+		long snipers = (AttackTables.rookAttacks(kingSquare, Bitboards.EMPTY)
+				& (board.getPieceBitboard(enemyColor, PieceType.ROOK) | queens))
+				| (AttackTables.bishopAttacks(kingSquare, Bitboards.EMPTY)
+						& (board.getPieceBitboard(enemyColor, PieceType.BISHOP) | queens));
+		while (snipers != 0) {
+			int sniperSquare = Long.numberOfTrailingZeros(snipers);
+			snipers &= snipers - 1;
+			long ray = AttackTables.between(kingSquare, sniperSquare);
+			long blockers = ray & occupancy;
+			if (Long.bitCount(blockers) == 1 && (blockers & board.getColorBitboard(color)) != 0) {
+				pinnedPieces |= blockers;
+				// dragon leaps, so it must not pass the pinning piece either
+				pinRays[Long.numberOfTrailingZeros(blockers)] = ray | Bitboards.bit(sniperSquare);
+			}
+		}
+	}
+
+	/**
+	 * Gets fields where piece other than king can move without leaving own
+	 * king in check, according to restrictions of the current position
+	 */
+	private long restrictTargets(int square) {
+		if (Bitboards.isSet(pinnedPieces, square)) {
+			return checkMask & pinRays[square];
+		}
+		return checkMask;
+	}
+
+	private boolean isKingDestinationAttacked(Color color, int from, int to) {
+		Board board = boardManager.getBoard();
+		Color enemyColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		// king does not block attacks along the line it moves on
+		long occupancy = board.getOccupancy() & ~Bitboards.bit(from);
+		return (AttackTables.attackersTo(board, to, occupancy) & board.getColorBitboard(enemyColor)) != 0;
+	}
+
+	/**
+	 * Calculates fields where piece can move or capture according to its
+	 * movement rules (without en passant and castling)
+	 */
+	private long calculateTargets(Piece piece, int square) {
+		Board board = boardManager.getBoard();
+		Color color = piece.getColor();
+		long own = board.getColorBitboard(color);
+		long occupancy = board.getOccupancy();
+		long enemy = occupancy & ~own;
+
+		switch (piece.getType()) {
+		case KING:
+			return AttackTables.kingAttacks(square) & ~own;
+		case QUEEN:
+			return AttackTables.queenAttacks(square, occupancy) & ~own;
+		case BISHOP:
+			return AttackTables.bishopAttacks(square, occupancy) & ~own;
+		case KNIGHT:
+			return AttackTables.knightAttacks(square) & ~own;
+		case ROOK:
+			return AttackTables.rookAttacks(square, occupancy) & ~own;
+		case DRAGON:
+			return (AttackTables.dragonMoves(square) & ~occupancy) | (AttackTables.dragonAttacks(square) & enemy);
+		case PAWN:
+			return calculatePawnPushes(color, square, occupancy) | (AttackTables.pawnAttacks(color, square) & enemy);
+		default:
+			return Bitboards.EMPTY;
+		}
+	}
+
+	private long calculatePawnPushes(Color color, int square, long occupancy) {
+		int direction = color == Color.WHITE ? 1 : -1;
+		int startY = color == Color.WHITE ? 1 : Board.SIZE - 2;
+		int x = Bitboards.x(square);
+		int y = Bitboards.y(square);
+
+		if (!Bitboards.isInsideBoard(x, y + direction)) {
+			return Bitboards.EMPTY;
+		}
+		long singlePush = Bitboards.bit(Bitboards.square(x, y + direction));
+		if ((singlePush & occupancy) != 0) {
+			return Bitboards.EMPTY;
+		}
+		if (y != startY) {
+			return singlePush;
+		}
+		long doublePush = Bitboards.bit(Bitboards.square(x, y + 2 * direction));
+		return (doublePush & occupancy) == 0 ? singlePush | doublePush : singlePush;
+	}
+
+	private long calculateCastlingTargets(Piece king, int kingSquare) {
+		Board board = boardManager.getBoard();
+		Color color = king.getColor();
+		Color enemyColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		int rookY = color == Color.WHITE ? 0 : Board.SIZE - 1;
+		int kingX = Bitboards.x(kingSquare);
+
+		int castlingRights = board.getCastlingRights();
+		int kingSideRight = color == Color.WHITE ? Board.WHITE_KING_SIDE_CASTLING : Board.BLACK_KING_SIDE_CASTLING;
+		int queenSideRight = color == Color.WHITE ? Board.WHITE_QUEEN_SIDE_CASTLING
+				: Board.BLACK_QUEEN_SIDE_CASTLING;
+		if ((castlingRights & (kingSideRight | queenSideRight)) == 0
+				|| AttackTables.isSquareAttacked(board, kingSquare, enemyColor)) {
+			return Bitboards.EMPTY;
+		}
+
+		long targets = Bitboards.EMPTY;
+		for (int direction = -1; direction <= 1; direction += 2) {
+			int rookX = direction < 0 ? 0 : Board.SIZE - 1;
+			int destinationX = kingX + 2 * direction;
+			if ((castlingRights & (direction < 0 ? queenSideRight : kingSideRight)) == 0) {
+				continue;
+			}
+			boolean pathEmpty = true;
+			for (int x = kingX + direction; x != rookX && pathEmpty; x += direction) {
+				pathEmpty = board.isEmpty(Bitboards.square(x, rookY));
+			}
+			if (pathEmpty && !AttackTables.isSquareAttacked(board, Bitboards.square(kingX + direction, rookY),
+					enemyColor)) {
+				targets |= Bitboards.bit(Bitboards.square(destinationX, rookY));
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Gets field passed by enemy pawn which made double move in the last move
+	 *
+	 * @param color color of capturing pawn
+	 * @return index of the field or {@link Bitboards#NO_SQUARE}
+	 */
+	private int getEnPassantSquare(Color color) {
+		Board board = boardManager.getBoard();
+		int enPassantSquare = board.getEnPassantSquare();
+		if (enPassantSquare == Bitboards.NO_SQUARE) {
+			return Bitboards.NO_SQUARE;
+		}
+		int pawnSquare = color == Color.WHITE ? enPassantSquare - Board.SIZE : enPassantSquare + Board.SIZE;
+		Color enemyColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		if (!Bitboards.isSet(board.getPieceBitboard(enemyColor, PieceType.PAWN), pawnSquare)) {
+			return Bitboards.NO_SQUARE;
+		}
+		return enPassantSquare;
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Performance test of the move generator. Counts leaf nodes of the tree of
+ * legal moves up to given depth, which can be compared with known node
+ * counts of standard positions and used to measure generator throughput.
+ * Moves are made and taken back on the board of the board manager, which is
+ * left unchanged.
+ *
+ */
+public class Perft {
+
+	private static final int MAX_DEPTH = 32;
+
+	private final BoardManager boardManager;
+	private final Board board;
+	private final MoveList[] moveLists = new MoveList[MAX_DEPTH + 1];
+
+	public Perft(BoardManager boardManager) {
+		this.boardManager = boardManager;
+		this.board = boardManager.getBoard();
+		for (int i = 0; i < moveLists.length; i++) {
+			moveLists[i] = new MoveList();
+		}
+	}
+
+	/**
+	 * Counts leaf nodes to given depth
+	 *
+	 * @param depth depth in plies
+	 * @return number of leaf nodes
+	 */
+	public long perft(int depth) {
+		if (depth < 0 || depth > MAX_DEPTH) {
+			throw new IllegalArgumentException("Depth must be between 0 and " + MAX_DEPTH + ": " + depth);
+		}
+		return countNodes(depth);
+	}
+
+	/**
+	 * Counts leaf nodes to given depth separately for every legal move in
+	 * the position and measures time of the count
+	 *
+	 * @param depth depth in plies, at least 1
+	 * @return node counts per move, total node count and timing
+	 */
+	public PerftResult divide(int depth) {
+		if (depth < 1 || depth > MAX_DEPTH) {
+			throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DEPTH + ": " + depth);
+		}
+		long startTime = System.nanoTime();
+		Map<String, Long> moveNodes = new LinkedHashMap<>();
+		MoveList moves = moveLists[depth];
+		boardManager.generateLegalMoves(board.getSideToMove(), moves);
+		long nodes = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			board.makeMove(move);
+			long count = countNodes(depth - 1);
+			board.unmakeMove();
+			moveNodes.put(PackedMove.toNotation(move), count);
+			nodes += count;
+		}
+		return new PerftResult(moveNodes, nodes, (System.nanoTime() - startTime) / 1000000);
+	}
+
+	private long countNodes(int depth) {
+		if (depth == 0) {
+			return 1;
+		}
+		MoveList moves = moveLists[depth];
+		boardManager.generateLegalMoves(board.getSideToMove(), moves);
+		if (depth == 1) {
+			return moves.size();
+		}
+		long nodes = 0;
+		for (int i = 0; i < moves.size(); i++) {
+			board.makeMove(moves.get(i));
+			nodes += countNodes(depth - 1);
+			board.unmakeMove();
+		}
+		return nodes;
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import java.util.Map;
+
+/**
+ * Result of {@link Perft#divide(int)}.
+ *
+ */
+public class PerftResult {
+
+	private final Map<String, Long> moveNodes;
+	private final long nodes;
+	private final long elapsedMillis;
+
+	public PerftResult(Map<String, Long> moveNodes, long nodes, long elapsedMillis) {
+		this.moveNodes = moveNodes;
+		this.nodes = nodes;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	/**
+	 * Gets number of leaf nodes after every legal move, in order of
+	 * generation
+	 *
+	 * @return node counts keyed by move in coordinate notation
+	 */
+	public Map<String, Long> getMoveNodes() {
+		return moveNodes;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public long getNodesPerSecond() {
+		return elapsedMillis == 0 ? nodes * 1000 : nodes * 1000 / elapsedMillis;
+	}
+
+	/**
+	 * Writes divide output: one line per move followed by totals
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (Map.Entry<String, Long> entry : moveNodes.entrySet()) {
+			builder.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+		}
+		builder.append("Nodes: ").append(nodes).append('\n');
+		builder.append("Time: ").append(elapsedMillis).append(" ms\n");
+		builder.append("Nodes/sec: ").append(getNodesPerSecond()).append('\n');
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.bitboard.PieceSquareTables;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Piece;
+
+/**
+ * Static exchange evaluation of captures on the board managed by
+ * {@link BoardManager}. Sequence of captures on one field is resolved on
+ * bitboards: both sides recapture with their least valuable attacker, and
+ * pieces which already captured are removed from the occupancy, so sliding
+ * pieces behind them join the exchange (x-rays). Moves are not made on the
+ * board. Pins and checks are not taken into account.
+ *
+ */
+class StaticExchange {
+
+	/**
+	 * King can capture only as the last piece, so it is the most valuable
+	 * attacker
+	 */
+	private static final int KING_VALUE = 10000;
+
+	/**
+	 * Each capture removes one piece, so exchange is never longer than the
+	 * number of fields
+	 */
+	private static final int MAX_EXCHANGE_LENGTH = Bitboards.SQUARES + 1;
+
+	/**
+	 * Attackers in order they join the exchange
+	 */
+	private static final PieceType[] ATTACKER_ORDER = { PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP,
+			PieceType.DRAGON, PieceType.ROOK, PieceType.QUEEN, PieceType.KING };
+
+	private final BoardManager boardManager;
+	private final int[] gains = new int[MAX_EXCHANGE_LENGTH];
+
+	StaticExchange(BoardManager boardManager) {
+		this.boardManager = boardManager;
+	}
+
+	/**
+	 * Evaluates capture (or move) of the piece from one field to another
+	 * followed by the best sequence of recaptures on the target field
+	 *
+	 * @param from index of the field of the moving piece
+	 * @param to index of the target field
+	 * @return material gain of the moving side in centipawns, negative if the
+	 *         piece is lost
+	 */
+	int evaluate(int from, int to) {
+		Board board = boardManager.getBoard();
+		Piece piece = board.getPieceAt(from);
+		long occupancy = board.getOccupancy();
+		boolean promotionField = Bitboards.y(to) == 0 || Bitboards.y(to) == Board.SIZE - 1;
+
+		Piece target = board.getPieceAt(to);
+		int gain = target == null ? 0 : value(target.getType());
+		if (target == null && piece.getType() == PieceType.PAWN && to == board.getEnPassantSquare()) {
+			gain = value(PieceType.PAWN);
+			occupancy &= ~Bitboards.bit(Bitboards.square(Bitboards.x(to), Bitboards.y(from)));
+		}
+
+		PieceType attacker = piece.getType();
+		Color side = piece.getColor();
+		long fromBit = Bitboards.bit(from);
+		int depth = 0;
+		gains[0] = gain + promotionGain(attacker, promotionField);
+		long attackers = AttackTables.attackersTo(board, to, occupancy);
+		while (true) {
+			occupancy &= ~fromBit;
+			attackers &= occupancy;
+			if (attacker != PieceType.KNIGHT) {
+				attackers |= slidingAttackers(board, to, occupancy);
+			}
+			side = opposite(side);
+
+			// piece standing on the target field after the last capture
+			int capturedValue = attacker == PieceType.PAWN && promotionField ? value(PieceType.QUEEN) : value(attacker);
+
+			fromBit = leastValuableAttacker(board, attackers, side);
+			if (fromBit == Bitboards.EMPTY) {
+				break;
+			}
+			attacker = board.getPieceAt(Long.numberOfTrailingZeros(fromBit)).getType();
+			if (attacker == PieceType.KING && (attackers & ~fromBit & board.getColorBitboard(opposite(side))) != 0) {
+				// king must not capture a defended piece
+				break;
+			}
+			depth++;
+			gains[depth] = capturedValue + promotionGain(attacker, promotionField) - gains[depth - 1];
+		}
+
+		// each side can stop capturing when continuing would lose material
+		while (depth > 0) {
+			gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+			depth--;
+		}
+		return gains[0];
+	}
+
+	/**
+	 * Finds sliding pieces attacking the field, including pieces revealed
+	 * when pieces in front of them left the occupancy
+	 */
+	private static long slidingAttackers(Board board, int square, long occupancy) {
+		long queens = board.getPieceBitboard(Color.WHITE, PieceType.QUEEN)
+				| board.getPieceBitboard(Color.BLACK, PieceType.QUEEN);
+		long bishops = board.getPieceBitboard(Color.WHITE, PieceType.BISHOP)
+				| board.getPieceBitboard(Color.BLACK, PieceType.BISHOP);
+		long rooks = board.getPieceBitboard(Color.WHITE, PieceType.ROOK)
+				| board.getPieceBitboard(Color.BLACK, PieceType.ROOK);
+		long attackers = (AttackTables.bishopAttacks(square, occupancy) & (bishops | queens))
+				| (AttackTables.rookAttacks(square, occupancy) & (rooks | queens));
+		return attackers & occupancy;
+	}
+
+	private static long leastValuableAttacker(Board board, long attackers, Color side) {
+		for (PieceType type : ATTACKER_ORDER) {
+			long pieces = attackers & board.getPieceBitboard(side, type);
+			if (pieces != Bitboards.EMPTY) {
+				return Long.lowestOneBit(pieces);
+			}
+		}
+		return Bitboards.EMPTY;
+	}
+
+	private static int promotionGain(PieceType attacker, boolean promotionField) {
+		return attacker == PieceType.PAWN && promotionField ? value(PieceType.QUEEN) - value(PieceType.PAWN) : 0;
+	}
+
+	private static int value(PieceType type) {
+		return type == PieceType.KING ? KING_VALUE : PieceSquareTables.pieceValue(type);
+	}
+
+	private static Color opposite(Color color) {
+		return color == Color.WHITE ? Color.BLACK : Color.WHITE;
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.capgemini.chess.algorithms.implementation.exceptions;
 
 /**
- * Exception thrown in case the invalid move is about to be performed
+ * Exception thrown in case the invalid move is about to be performed.
+ * Exception does not fill in stack trace, because invalid moves are expected
+ * during the game and the reason is described by the message.
  * 
  * @author Michal Bejm
  *
@@ -11,10 +13,10 @@ public class InvalidMoveException extends Exception {
 	private static final long serialVersionUID = -3078327974919142439L;
 
 	public InvalidMoveException() {
-		super("Invalid move!");
+		super("Invalid move!", null, false, false);
 	}
 	
 	public InvalidMoveException(String message) {
-		super("Invalid move! " + message);
+		super("Invalid move! " + message, null, false, false);
 	}
 }
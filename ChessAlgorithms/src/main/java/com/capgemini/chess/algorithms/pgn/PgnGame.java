@@ -0,0 +1,88 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game read from or written to Portable Game Notation (PGN): tag pairs, moves
+ * of the main line in Standard Algebraic Notation (SAN) and the game result.
+ * Comments, variations and annotations are not kept.
+ *
+ */
+public class PgnGame {
+
+	public static final String UNKNOWN_RESULT = "*";
+
+	private final int number;
+	private final Map<String, String> tags = new LinkedHashMap<>();
+	private final List<String> moves = new ArrayList<>();
+	private String result = UNKNOWN_RESULT;
+
+	public PgnGame() {
+		this(0);
+	}
+
+	/**
+	 * @param number number of the game in the file, starting from 1
+	 */
+	public PgnGame(int number) {
+		this.number = number;
+	}
+
+	public int getNumber() {
+		return number;
+	}
+
+	public void setTag(String name, String value) {
+		tags.put(name, value);
+	}
+
+	/**
+	 * @param name tag name
+	 * @return tag value or null if game has no such tag
+	 */
+	public String getTag(String name) {
+		return tags.get(name);
+	}
+
+	public Map<String, String> getTags() {
+		return Collections.unmodifiableMap(tags);
+	}
+
+	/**
+	 * Gets start position of the game
+	 *
+	 * @return position in FEN or null if game starts from the initial position
+	 */
+	public String getFen() {
+		return tags.get("FEN");
+	}
+
+	public void addMove(String san) {
+		moves.add(san);
+	}
+
+	/**
+	 * Gets moves of the main line in SAN
+	 *
+	 * @return moves in the order they were played
+	 */
+	public List<String> getMoves() {
+		return Collections.unmodifiableList(moves);
+	}
+
+	/**
+	 * @return "1-0", "0-1", "1/2-1/2" or {@link #UNKNOWN_RESULT}
+	 */
+	public String getResult() {
+		return result;
+	}
+
+	public void setResult(String result) {
+		this.result = result;
+	}
+
+}
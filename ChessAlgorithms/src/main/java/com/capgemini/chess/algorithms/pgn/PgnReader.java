@@ -0,0 +1,293 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader of PGN files. File is memory-mapped in windows of fixed
+ * size and parsed byte by byte, so files larger than the available memory
+ * (and larger than 2 GB) can be read. Games are returned one by one as soon
+ * as they are parsed; the reader keeps no references to returned games.
+ * 
+ * Comments, variations, numeric annotation glyphs and move suffix
+ * annotations ("!", "?") are skipped. Tag values are decoded as UTF-8.
+ *
+ */
+public class PgnReader implements Closeable {
+
+	private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+	private static final int EOF = -1;
+	private static final ByteBuffer NO_WINDOW = ByteBuffer.allocate(0);
+
+	private final FileChannel channel;
+	private final long size;
+	private final int windowSize;
+
+	private ByteBuffer window = NO_WINDOW;
+	private long windowEnd;
+	private byte[] token = new byte[64];
+	private int tokenLength;
+	private int gameCount;
+
+	/**
+	 * Opens PGN file for reading
+	 *
+	 * @param file PGN file
+	 * @throws IOException if file cannot be opened
+	 */
+	public PgnReader(Path file) throws IOException {
+		this(file, DEFAULT_WINDOW_SIZE);
+	}
+
+	PgnReader(Path file, int windowSize) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.size = channel.size();
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Reads next game from the file
+	 *
+	 * @return next game or null if there are no more games
+	 * @throws IOException if file cannot be read
+	 */
+	public PgnGame readGame() throws IOException {
+		PgnGame game = null;
+		boolean movetextStarted = false;
+		while (true) {
+			int c = skipWhitespace();
+			if (c == EOF) {
+				return game;
+			}
+			if (c == '[') {
+				if (movetextStarted) {
+					// previous game has no result
+					return game;
+				}
+				if (game == null) {
+					game = new PgnGame(++gameCount);
+				}
+				next();
+				readTag(game);
+				continue;
+			}
+			if (game == null) {
+				game = new PgnGame(++gameCount);
+			}
+			movetextStarted = true;
+			next();
+			switch (c) {
+			case '{':
+				skipUntil('}');
+				break;
+			case ';':
+			case '%':
+				skipUntil('\n');
+				break;
+			case '(':
+				skipVariation();
+				break;
+			case ')':
+			case '.':
+				break;
+			case '$':
+				readToken(EOF);
+				break;
+			default:
+				readToken(c);
+				if (readMovetextToken(game)) {
+					return game;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads all remaining games and passes them to the consumer one by one
+	 *
+	 * @param consumer consumer of games
+	 * @throws IOException if file cannot be read
+	 */
+	public void readGames(Consumer<? super PgnGame> consumer) throws IOException {
+		PgnGame game;
+		while ((game = readGame()) != null) {
+			consumer.accept(game);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = NO_WINDOW;
+		channel.close();
+	}
+
+	/**
+	 * Adds token read into the buffer to the game
+	 *
+	 * @return true if token is the game result
+	 */
+	private boolean readMovetextToken(PgnGame game) {
+		if (isToken("1-0") || isToken("0-1") || isToken("1/2-1/2") || isToken(PgnGame.UNKNOWN_RESULT)) {
+			game.setResult(new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1));
+			return true;
+		}
+		int start = 0;
+		// castling written with zeros (possibly with check or annotation) is not a move number
+		if (token[0] >= '0' && token[0] <= '9' && !startsWith("0-0")) {
+			// move number, possibly followed by the move without space
+			while (start < tokenLength && token[start] != '.') {
+				start++;
+			}
+			while (start < tokenLength && token[start] == '.') {
+				start++;
+			}
+		}
+		int end = tokenLength;
+		while (end > start && (token[end - 1] == '!' || token[end - 1] == '?')) {
+			end--;
+		}
+		if (end > start) {
+			game.addMove(new String(token, start, end - start, StandardCharsets.ISO_8859_1));
+		}
+		return false;
+	}
+
+	private void readTag(PgnGame game) throws IOException {
+		skipWhitespace();
+		tokenLength = 0;
+		int c;
+		while ((c = peek()) != EOF && c != '"' && c != ']' && !isWhitespace(c)) {
+			appendToToken(next());
+		}
+		String name = new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1);
+
+		if (skipWhitespace() == '"') {
+			next();
+			tokenLength = 0;
+			while ((c = next()) != EOF && c != '"' && c != '\n') {
+				if (c == '\\' && (peek() == '"' || peek() == '\\')) {
+					c = next();
+				}
+				appendToToken(c);
+			}
+			game.setTag(name, new String(token, 0, tokenLength, StandardCharsets.UTF_8));
+		}
+		while ((c = peek()) != EOF && c != '\n' && next() != ']') {
+			// skip the rest of the tag
+		}
+	}
+
+	/**
+	 * Reads token which starts with given character into the buffer. Token
+	 * ends before whitespace or character with special meaning in movetext.
+	 */
+	private void readToken(int first) throws IOException {
+		tokenLength = 0;
+		if (first != EOF) {
+			appendToToken(first);
+		}
+		int c;
+		while ((c = peek()) != EOF && !isWhitespace(c) && c != '{' && c != '(' && c != ')' && c != ';'
+				&& c != '[' && c != '$') {
+			appendToToken(next());
+		}
+	}
+
+	private void skipVariation() throws IOException {
+		int depth = 1;
+		int c;
+		while (depth > 0 && (c = next()) != EOF) {
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (c == '{') {
+				skipUntil('}');
+			} else if (c == ';') {
+				skipUntil('\n');
+			}
+		}
+	}
+
+	private void skipUntil(int end) throws IOException {
+		int c;
+		while ((c = next()) != EOF && c != end) {
+			// skip
+		}
+	}
+
+	private int skipWhitespace() throws IOException {
+		int c;
+		while ((c = peek()) != EOF && isWhitespace(c)) {
+			next();
+		}
+		return c;
+	}
+
+	private boolean isToken(String text) {
+		if (tokenLength != text.length()) {
+			return false;
+		}
+		for (int i = 0; i < tokenLength; i++) {
+			if (token[i] != text.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean startsWith(String text) {
+		if (tokenLength < text.length()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (token[i] != text.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void appendToToken(int c) {
+		if (tokenLength == token.length) {
+			token = Arrays.copyOf(token, token.length * 2);
+		}
+		token[tokenLength++] = (byte) c;
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+	}
+
+	private int peek() throws IOException {
+		if (!window.hasRemaining() && !mapNextWindow()) {
+			return EOF;
+		}
+		return window.get(window.position()) & 0xFF;
+	}
+
+	private int next() throws IOException {
+		if (!window.hasRemaining() && !mapNextWindow()) {
+			return EOF;
+		}
+		return window.get() & 0xFF;
+	}
+
+	private boolean mapNextWindow() throws IOException {
+		if (windowEnd >= size) {
+			return false;
+		}
+		int length = (int) Math.min(windowSize, size - windowEnd);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, length);
+		windowEnd += length;
+		return true;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.capgemini.chess.algorithms.pgn;
+
+/**
+ * Result of validation of a single PGN game.
+ *
+ */
+public class PgnValidationResult {
+
+	private final int gameNumber;
+	private final int plyCount;
+	private final String error;
+
+	public PgnValidationResult(int gameNumber, int plyCount, String error) {
+		this.gameNumber = gameNumber;
+		this.plyCount = plyCount;
+		this.error = error;
+	}
+
+	public int getGameNumber() {
+		return gameNumber;
+	}
+
+	/**
+	 * Gets number of moves played before validation stopped
+	 *
+	 * @return number of legal moves (of both sides) played
+	 */
+	public int getPlyCount() {
+		return plyCount;
+	}
+
+	public boolean isValid() {
+		return error == null;
+	}
+
+	/**
+	 * @return description of the problem or null if game is valid
+	 */
+	public String getError() {
+		return error;
+	}
+
+	@Override
+	public String toString() {
+		return "Game " + gameNumber + (isValid() ? ": valid, " + plyCount + " plies" : ": " + error);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Validates PGN games by playing their moves on a board. One board and one
+ * move list are reused for all games, so validating a game allocates only
+ * pieces of the start position and history of played moves.
+ * 
+ * Validator is not thread safe; every thread needs its own instance.
+ *
+ */
+public class PgnValidator {
+
+	private final Board board = new Board();
+	private final BoardManager boardManager = new BoardManager(board);
+	private final MoveList legalMoves = new MoveList();
+
+	/**
+	 * Plays all moves of the game starting from its start position
+	 *
+	 * @param game game to validate
+	 * @return validation result
+	 */
+	public PgnValidationResult validate(PgnGame game) {
+		String fen = game.getFen();
+		try {
+			Fen.load(fen == null ? Fen.INITIAL_POSITION : fen, board);
+		} catch (IllegalArgumentException e) {
+			return new PgnValidationResult(game.getNumber(), 0, e.getMessage());
+		}
+
+		int plyCount = 0;
+		for (String san : game.getMoves()) {
+			boardManager.generateLegalMoves(board.getSideToMove(), legalMoves);
+			int move = SanNotation.decode(san, legalMoves);
+			if (move == PackedMove.NONE) {
+				return new PgnValidationResult(game.getNumber(), plyCount,
+						"Illegal or ambiguous move " + san + " at ply " + (plyCount + 1));
+			}
+			board.makeMove(PackedMove.toMove(move, board));
+			plyCount++;
+		}
+		return new PgnValidationResult(game.getNumber(), plyCount, null);
+	}
+
+	/**
+	 * Gets board with the final position of the last validated game
+	 *
+	 * @return board used for validation
+	 */
+	public Board getBoard() {
+		return board;
+	}
+
+}
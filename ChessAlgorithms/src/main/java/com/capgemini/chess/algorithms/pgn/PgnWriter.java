@@ -0,0 +1,108 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of games in PGN export format: tag pairs followed by movetext with
+ * move numbers, wrapped at 80 characters. Games are written one by one, so
+ * any number of games can be exported in constant memory.
+ *
+ */
+public class PgnWriter implements Closeable, Flushable {
+
+	private static final int LINE_LENGTH = 80;
+
+	private final Writer out;
+	private final StringBuilder line = new StringBuilder(LINE_LENGTH);
+
+	public PgnWriter(Writer out) {
+		this.out = out;
+	}
+
+	/**
+	 * Writes game
+	 *
+	 * @param game game to write
+	 * @throws IOException if game cannot be written
+	 */
+	public void write(PgnGame game) throws IOException {
+		for (Map.Entry<String, String> tag : game.getTags().entrySet()) {
+			out.write('[');
+			out.write(tag.getKey());
+			out.write(" \"");
+			out.write(escape(tag.getValue()));
+			out.write("\"]\n");
+		}
+		out.write('\n');
+
+		int ply = getInitialPly(game.getFen());
+		List<String> moves = game.getMoves();
+		for (int i = 0; i < moves.size(); i++, ply++) {
+			if (ply % 2 == 0) {
+				appendToken((ply / 2 + 1) + ".");
+			} else if (i == 0) {
+				appendToken((ply / 2 + 1) + "...");
+			}
+			appendToken(moves.get(i));
+		}
+		appendToken(game.getResult());
+		out.write(line.toString());
+		out.write("\n\n");
+		line.setLength(0);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private void appendToken(String token) throws IOException {
+		if (line.length() > 0 && line.length() + 1 + token.length() > LINE_LENGTH) {
+			out.write(line.toString());
+			out.write('\n');
+			line.setLength(0);
+		}
+		if (line.length() > 0) {
+			line.append(' ');
+		}
+		line.append(token);
+	}
+
+	/**
+	 * Calculates ply of the first move from side to move and fullmove number
+	 * of the start position
+	 */
+	private static int getInitialPly(String fen) {
+		if (fen == null) {
+			return 0;
+		}
+		String[] fields = fen.trim().split(" +");
+		int ply = fields.length > 1 && fields[1].equals("b") ? 1 : 0;
+		if (fields.length > 5) {
+			try {
+				ply += (Math.max(1, Integer.parseInt(fields[5])) - 1) * 2;
+			} catch (NumberFormatException e) {
+				// fullmove number is optional
+			}
+		}
+		return ply;
+	}
+
+	private static String escape(String value) {
+		if (value.indexOf('"') < 0 && value.indexOf('\\') < 0) {
+			return value;
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+}
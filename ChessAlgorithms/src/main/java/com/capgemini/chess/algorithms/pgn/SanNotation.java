@@ -0,0 +1,243 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.AttackTables;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Conversion between packed moves and Standard Algebraic Notation (SAN), for
+ * example "Nbd7", "exd6", "O-O-O" or "e8=Q+". Dragon is written as 'D'.
+ * Pawns are always promoted to queen, so other promotion pieces are not
+ * accepted.
+ *
+ */
+public final class SanNotation {
+
+	private static final String PIECE_SYMBOLS = "KQBNRPD";
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final int NO_COORDINATE = -1;
+
+	/**
+	 * Kinds of moves matched by {@link #findSingle}
+	 */
+	private static final int ANY_MOVE = 0;
+	private static final int CAPTURE = 1;
+	private static final int NOT_CAPTURE = 2;
+
+	private SanNotation() {
+	}
+
+	/**
+	 * Finds legal move written in SAN. Check, mate and annotation suffixes are
+	 * ignored.
+	 *
+	 * @param san move in SAN
+	 * @param legalMoves legal moves of the side to move
+	 * @return matching move or {@link PackedMove#NONE} if no legal move
+	 *         matches or the notation is ambiguous
+	 */
+	public static int decode(String san, MoveList legalMoves) {
+		int end = san.length();
+		while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		if (end < 2) {
+			return PackedMove.NONE;
+		}
+
+		if (isCastling(san, end)) {
+			int destinationX = end == 3 ? Board.SIZE - 2 : 2;
+			return findSingle(legalMoves, PieceType.KING, NO_COORDINATE, NO_COORDINATE, destinationX, NO_COORDINATE,
+					true, ANY_MOVE);
+		}
+
+		int start = 0;
+		PieceType pieceType = PieceType.PAWN;
+		int symbol = PIECE_SYMBOLS.indexOf(san.charAt(0));
+		if (symbol >= 0 && symbol != PieceType.PAWN.ordinal()) {
+			pieceType = PIECE_TYPES[symbol];
+			start++;
+		}
+
+		// promotion suffix, written as "=Q" or "Q"
+		char last = san.charAt(end - 1);
+		if (last < '1' || last > '8') {
+			if (pieceType != PieceType.PAWN || last != 'Q') {
+				return PackedMove.NONE;
+			}
+			end -= san.charAt(end - 2) == '=' ? 2 : 1;
+		}
+
+		if (end - start < 2) {
+			return PackedMove.NONE;
+		}
+		int toX = san.charAt(end - 2) - 'a';
+		int toY = san.charAt(end - 1) - '1';
+		if (!Bitboards.isInsideBoard(toX, toY)) {
+			return PackedMove.NONE;
+		}
+
+		int fromX = NO_COORDINATE;
+		int fromY = NO_COORDINATE;
+		int kind = ANY_MOVE;
+		for (int i = start; i < end - 2; i++) {
+			char c = san.charAt(i);
+			if (c >= 'a' && c <= 'h') {
+				fromX = c - 'a';
+			} else if (c >= '1' && c <= '8') {
+				fromY = c - '1';
+			} else if (c == 'x' || c == ':') {
+				kind = CAPTURE;
+			} else if (c != '-') {
+				return PackedMove.NONE;
+			}
+		}
+		if (pieceType == PieceType.PAWN && kind != CAPTURE) {
+			// pawn moves straight unless it captures
+			if (fromX != NO_COORDINATE && fromX != toX) {
+				return PackedMove.NONE;
+			}
+			fromX = toX;
+			kind = NOT_CAPTURE;
+		}
+
+		int move = findSingle(legalMoves, pieceType, fromX, fromY, toX, toY, false, kind);
+		if (move == PackedMove.NONE && pieceType == PieceType.KING && fromX == NO_COORDINATE && kind != CAPTURE) {
+			// castling written as king move, for example "Kg1"
+			move = findSingle(legalMoves, pieceType, fromX, fromY, toX, toY, true, ANY_MOVE);
+		}
+		return move;
+	}
+
+	/**
+	 * Writes legal move of the side to move in SAN, including check and mate
+	 * suffixes
+	 *
+	 * @param move legal packed move
+	 * @param boardManager board manager with the position before the move
+	 * @param legalMoves legal moves of the side to move
+	 * @return move in SAN
+	 */
+	public static String encode(int move, BoardManager boardManager, MoveList legalMoves) {
+		StringBuilder san = new StringBuilder(8);
+		int from = PackedMove.getFrom(move);
+		int to = PackedMove.getTo(move);
+		PieceType pieceType = PackedMove.getMovedPiece(move);
+
+		if (PackedMove.getType(move) == MoveType.CASTLING) {
+			san.append(Bitboards.x(to) > Bitboards.x(from) ? "O-O" : "O-O-O");
+		} else {
+			if (pieceType == PieceType.PAWN) {
+				if (PackedMove.isCapture(move)) {
+					san.append(toFile(from));
+				}
+			} else {
+				san.append(PIECE_SYMBOLS.charAt(pieceType.ordinal()));
+				appendDisambiguation(san, move, legalMoves);
+			}
+			if (PackedMove.isCapture(move)) {
+				san.append('x');
+			}
+			san.append(toFile(to)).append(Bitboards.y(to) + 1);
+			if (PackedMove.isPromotion(move)) {
+				san.append("=Q");
+			}
+		}
+
+		appendCheck(san, move, boardManager);
+		return san.toString();
+	}
+
+	private static boolean isCastling(String san, int end) {
+		if (end != 3 && end != 5) {
+			return false;
+		}
+		char castle = san.charAt(0);
+		if (castle != 'O' && castle != '0') {
+			return false;
+		}
+		for (int i = 1; i < end; i++) {
+			if (san.charAt(i) != (i % 2 == 1 ? '-' : castle)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int findSingle(MoveList legalMoves, PieceType pieceType, int fromX, int fromY, int toX, int toY,
+			boolean castling, int kind) {
+		int found = PackedMove.NONE;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			int move = legalMoves.get(i);
+			int from = PackedMove.getFrom(move);
+			int to = PackedMove.getTo(move);
+			boolean capture = PackedMove.isCapture(move) || PackedMove.getType(move) == MoveType.EN_PASSANT;
+			if (PackedMove.getMovedPiece(move) != pieceType
+					|| (kind == CAPTURE && !capture) || (kind == NOT_CAPTURE && capture)
+					|| (PackedMove.getType(move) == MoveType.CASTLING) != castling || Bitboards.x(to) != toX
+					|| (toY != NO_COORDINATE && Bitboards.y(to) != toY)
+					|| (fromX != NO_COORDINATE && Bitboards.x(from) != fromX)
+					|| (fromY != NO_COORDINATE && Bitboards.y(from) != fromY)) {
+				continue;
+			}
+			if (found != PackedMove.NONE) {
+				return PackedMove.NONE;
+			}
+			found = move;
+		}
+		return found;
+	}
+
+	private static void appendDisambiguation(StringBuilder san, int move, MoveList legalMoves) {
+		int from = PackedMove.getFrom(move);
+		boolean ambiguous = false;
+		boolean sameFile = false;
+		boolean sameRank = false;
+		for (int i = 0; i < legalMoves.size(); i++) {
+			int other = legalMoves.get(i);
+			int otherFrom = PackedMove.getFrom(other);
+			if (otherFrom == from || PackedMove.getTo(other) != PackedMove.getTo(move)
+					|| PackedMove.getMovedPiece(other) != PackedMove.getMovedPiece(move)) {
+				continue;
+			}
+			ambiguous = true;
+			sameFile |= Bitboards.x(otherFrom) == Bitboards.x(from);
+			sameRank |= Bitboards.y(otherFrom) == Bitboards.y(from);
+		}
+		if (!ambiguous) {
+			return;
+		}
+		if (!sameFile) {
+			san.append(toFile(from));
+		} else if (!sameRank) {
+			san.append(Bitboards.y(from) + 1);
+		} else {
+			san.append(toFile(from)).append(Bitboards.y(from) + 1);
+		}
+	}
+
+	private static void appendCheck(StringBuilder san, int move, BoardManager boardManager) {
+		Board board = boardManager.getBoard();
+		board.makeMove(move);
+		Color sideToMove = board.getSideToMove();
+		Color enemyColor = sideToMove == Color.WHITE ? Color.BLACK : Color.WHITE;
+		int kingSquare = board.getKingSquare(sideToMove);
+		if (kingSquare != Bitboards.NO_SQUARE && AttackTables.isSquareAttacked(board, kingSquare, enemyColor)) {
+			MoveList replies = new MoveList();
+			boardManager.generateLegalMoves(sideToMove, replies);
+			san.append(replies.isEmpty() ? '#' : '+');
+		}
+		board.unmakeMove();
+	}
+
+	private static char toFile(int square) {
+		return (char) ('a' + Bitboards.x(square));
+	}
+
+}
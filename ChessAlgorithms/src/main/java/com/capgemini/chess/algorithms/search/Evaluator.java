@@ -0,0 +1,28 @@
+package com.capgemini.chess.algorithms.search;
+
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+
+/**
+ * Static evaluation of the position based on material and piece-square
+ * tables. Board keeps the score up to date while moves are made and unmade,
+ * so evaluation only reads it.
+ *
+ */
+final class Evaluator {
+
+	private Evaluator() {
+	}
+
+	/**
+	 * Evaluates position from the point of view of the side to move
+	 *
+	 * @param board chess board
+	 * @return score in centipawns, positive if side to move is better
+	 */
+	static int evaluate(Board board) {
+		int score = board.getEvaluation();
+		return board.getSideToMove() == Color.WHITE ? score : -score;
+	}
+
+}
@@ -0,0 +1,183 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Arrays;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.bitboard.PieceSquareTables;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+
+/**
+ * Orders moves for the search, so moves most likely to cause a cutoff are
+ * tried first: the hash move, then captures (most valuable victim, least
+ * valuable attacker) and promotions, then killer moves of the ply and other
+ * quiet moves by the history table. Scores are kept in arrays parallel to
+ * move lists and the next move is picked by selection, so whole lists are
+ * not sorted when the first moves cause a cutoff.
+ *
+ */
+final class MoveOrderer {
+
+	private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+	private static final int CAPTURE_SCORE = 2000000;
+	private static final int KILLER_SCORE = 1000000;
+	private static final int MAX_HISTORY_SCORE = KILLER_SCORE / 2;
+	private static final int KILLERS_PER_PLY = 2;
+
+	/**
+	 * Value of the king as attacker, so captures by the king are tried last
+	 */
+	private static final int KING_ATTACKER_VALUE = 1000;
+
+	private final int[][] scores;
+	private final int[][] killers;
+	private final int[] history = new int[Bitboards.COLORS * Bitboards.SQUARES * Bitboards.SQUARES];
+
+	MoveOrderer(int maxPly) {
+		scores = new int[maxPly + 1][];
+		killers = new int[maxPly + 1][KILLERS_PER_PLY];
+		for (int ply = 0; ply <= maxPly; ply++) {
+			scores[ply] = new int[64];
+		}
+	}
+
+	/**
+	 * Prepares heuristics for the next search. Killer moves are cleared and
+	 * history scores are halved, so they still help but newer results
+	 * dominate.
+	 */
+	void startSearch() {
+		for (int[] plyKillers : killers) {
+			Arrays.fill(plyKillers, PackedMove.NONE);
+		}
+		ageHistory();
+	}
+
+	/**
+	 * Scores moves generated on given ply. Moves are then taken in order with
+	 * {@link #nextMove(MoveList, int, int)}.
+	 *
+	 * @param moves generated moves
+	 * @param ply distance from the root
+	 * @param hashMove move from the transposition table or
+	 *            {@link PackedMove#NONE}
+	 * @param sideToMove color of the moving side
+	 */
+	void scoreMoves(MoveList moves, int ply, int hashMove, Color sideToMove) {
+		if (scores[ply].length < moves.size()) {
+			scores[ply] = new int[Math.max(moves.size(), scores[ply].length * 2)];
+		}
+		int[] plyScores = scores[ply];
+		int[] plyKillers = killers[ply];
+		int historyOffset = sideToMove.ordinal() * Bitboards.SQUARES * Bitboards.SQUARES;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			int score;
+			if (move == hashMove) {
+				score = HASH_MOVE_SCORE;
+			} else if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+				score = scoreCapture(move);
+			} else if (move == plyKillers[0]) {
+				score = KILLER_SCORE + 1;
+			} else if (move == plyKillers[1]) {
+				score = KILLER_SCORE;
+			} else {
+				score = history[historyOffset + historyIndex(move)];
+			}
+			plyScores[i] = score;
+		}
+	}
+
+	/**
+	 * Moves the best scored move from the remaining part of the list to given
+	 * index
+	 *
+	 * @param moves moves scored with
+	 *            {@link #scoreMoves(MoveList, int, int, Color)}
+	 * @param ply distance from the root
+	 * @param index index of the first move not tried yet
+	 * @return move to try next
+	 */
+	int nextMove(MoveList moves, int ply, int index) {
+		int[] plyScores = scores[ply];
+		int bestIndex = index;
+		for (int i = index + 1; i < moves.size(); i++) {
+			if (plyScores[i] > plyScores[bestIndex]) {
+				bestIndex = i;
+			}
+		}
+		int bestMove = moves.get(bestIndex);
+		if (bestIndex != index) {
+			moves.set(bestIndex, moves.get(index));
+			moves.set(index, bestMove);
+			int bestScore = plyScores[bestIndex];
+			plyScores[bestIndex] = plyScores[index];
+			plyScores[index] = bestScore;
+		}
+		return bestMove;
+	}
+
+	/**
+	 * Remembers quiet move which caused a beta cutoff as killer move of the
+	 * ply and rewards it in the history table. Captures are ordered by their
+	 * victims, so they are not remembered.
+	 *
+	 * @param move move which caused the cutoff
+	 * @param ply distance from the root
+	 * @param depth remaining depth of the search
+	 * @param sideToMove color of the moving side
+	 */
+	void recordCutoff(int move, int ply, int depth, Color sideToMove) {
+		if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+			return;
+		}
+		int[] plyKillers = killers[ply];
+		if (plyKillers[0] != move) {
+			plyKillers[1] = plyKillers[0];
+			plyKillers[0] = move;
+		}
+		int index = sideToMove.ordinal() * Bitboards.SQUARES * Bitboards.SQUARES + historyIndex(move);
+		history[index] += depth * depth;
+		if (history[index] > MAX_HISTORY_SCORE) {
+			ageHistory();
+		}
+	}
+
+	int getKiller(int ply, int slot) {
+		return killers[ply][slot];
+	}
+
+	int getHistoryScore(int move, Color sideToMove) {
+		return history[sideToMove.ordinal() * Bitboards.SQUARES * Bitboards.SQUARES + historyIndex(move)];
+	}
+
+	private void ageHistory() {
+		for (int i = 0; i < history.length; i++) {
+			history[i] >>= 1;
+		}
+	}
+
+	private static int scoreCapture(int move) {
+		int score = CAPTURE_SCORE;
+		if (PackedMove.isCapture(move)) {
+			PieceType attacker = PackedMove.getMovedPiece(move);
+			int attackerValue = attacker == PieceType.KING ? KING_ATTACKER_VALUE
+					: PieceSquareTables.pieceValue(attacker);
+			score += PieceSquareTables.pieceValue(PackedMove.getCapturedPiece(move)) * 100 - attackerValue;
+		}
+		if (PackedMove.isPromotion(move)) {
+			score += PieceSquareTables.pieceValue(PieceType.QUEEN) * 100;
+		}
+		return score;
+	}
+
+	/**
+	 * Butterfly index of the move: 'from' and 'to' fields
+	 */
+	private static int historyIndex(int move) {
+		return PackedMove.getFrom(move) * Bitboards.SQUARES + PackedMove.getTo(move);
+	}
+
+}
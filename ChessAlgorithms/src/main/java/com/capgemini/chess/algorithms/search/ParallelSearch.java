@@ -0,0 +1,143 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Parallel search (Lazy SMP). All threads search the same root position,
+ * each one on its own copy of the board, and share one transposition table,
+ * so results found by one thread are used by the others. Helper threads
+ * start iterative deepening at different depths to search different parts
+ * of the tree. Search is controlled by the main thread, which runs in the
+ * calling thread: when it finishes, helpers are stopped and its result is
+ * returned.
+ *
+ */
+public class ParallelSearch {
+
+	private static final int DEFAULT_TRANSPOSITION_TABLE_SIZE = 64;
+
+	private final BoardManager boardManager;
+	private final int threadCount;
+	private final TranspositionTable transpositionTable;
+	private final ExecutorService helperThreads;
+
+	public ParallelSearch(BoardManager boardManager, int threadCount) {
+		this(boardManager, threadCount, new TranspositionTable(DEFAULT_TRANSPOSITION_TABLE_SIZE));
+	}
+
+	public ParallelSearch(BoardManager boardManager, int threadCount, TranspositionTable transpositionTable) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+		}
+		this.boardManager = boardManager;
+		this.threadCount = threadCount;
+		this.transpositionTable = transpositionTable;
+		this.helperThreads = threadCount > 1 ? Executors.newFixedThreadPool(threadCount - 1) : null;
+	}
+
+	/**
+	 * Searches for the best move of the side to move. Limits apply to the
+	 * main thread. Board of the board manager is not modified.
+	 *
+	 * @param limits search limits
+	 * @return result of the main thread with nodes counted in all threads
+	 */
+	public SearchResult search(SearchLimits limits) {
+		Board board = boardManager.getBoard();
+		SearchEngine mainEngine = new SearchEngine(new BoardManager(board.generateCopy()), transpositionTable);
+
+		List<SearchEngine> helpers = new ArrayList<>();
+		List<Future<SearchResult>> helperResults = new ArrayList<>();
+		for (int i = 1; i < threadCount; i++) {
+			SearchEngine helper = new SearchEngine(new BoardManager(board.generateCopy()), transpositionTable);
+			helper.resetStop();
+			helpers.add(helper);
+			int firstDepth = 1 + i % 2;
+			SearchLimits helperLimits = new SearchLimits(limits.getMaxDepth(), 0, 0);
+			helperResults.add(helperThreads.submit(() -> helper.search(helperLimits, firstDepth)));
+		}
+
+		SearchResult result = mainEngine.search(limits);
+
+		for (SearchEngine helper : helpers) {
+			helper.stop();
+		}
+		long nodes = result.getNodes();
+		for (Future<SearchResult> helperResult : helperResults) {
+			nodes += getResult(helperResult).getNodes();
+		}
+		return new SearchResult(result.getPrincipalVariation(), result.getScore(), result.getDepth(), nodes,
+				result.getCutoffs(), result.getFirstMoveCutoffs(), result.getElapsedMillis());
+	}
+
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	public TranspositionTable getTranspositionTable() {
+		return transpositionTable;
+	}
+
+	/**
+	 * Stops helper threads. Search can not be run after shutdown.
+	 */
+	public void shutdown() {
+		if (helperThreads != null) {
+			helperThreads.shutdownNow();
+		}
+	}
+
+	/**
+	 * Measures how search scales with number of threads. Position is searched
+	 * to given depth with 1, 2, 4, ... threads (up to maxThreadCount) and
+	 * time to depth is compared with single thread search. Transposition
+	 * table is cleared before every measurement.
+	 *
+	 * @param boardManager board manager with position to search
+	 * @param maxThreadCount maximal number of threads
+	 * @param depth search depth
+	 * @param transpositionTableSize size of the transposition table in
+	 *            megabytes
+	 * @return measurement for every tested number of threads
+	 */
+	public static List<SpeedupMeasurement> measureSpeedup(BoardManager boardManager, int maxThreadCount, int depth,
+			int transpositionTableSize) {
+		List<SpeedupMeasurement> measurements = new ArrayList<>();
+		TranspositionTable transpositionTable = new TranspositionTable(transpositionTableSize);
+		long singleThreadMillis = 0;
+		for (int threads = 1; threads <= maxThreadCount; threads *= 2) {
+			transpositionTable.clear();
+			ParallelSearch parallelSearch = new ParallelSearch(boardManager, threads, transpositionTable);
+			long startTime = System.nanoTime();
+			SearchResult result = parallelSearch.search(new SearchLimits(depth, 0, 0));
+			long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1000000);
+			parallelSearch.shutdown();
+			if (threads == 1) {
+				singleThreadMillis = elapsedMillis;
+			}
+			measurements.add(new SpeedupMeasurement(threads, elapsedMillis, result.getNodes(),
+					(double) singleThreadMillis / elapsedMillis));
+		}
+		return measurements;
+	}
+
+	private static SearchResult getResult(Future<SearchResult> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for helper thread", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Helper thread failed", e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,375 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.AttackTables;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Chess engine choosing the move for the side to move on the board managed
+ * by {@link BoardManager}. Engine uses negamax search with alpha-beta
+ * pruning, quiescence search of captures at the leaves (captures losing
+ * material by static exchange evaluation are skipped) and iterative
+ * deepening. Moves are ordered by {@link MoveOrderer}. Results of searched
+ * positions are kept in {@link TranspositionTable}, which can be shared by
+ * subsequent searches.
+ * Moves are made and taken back on the board itself, so the board
+ * must not be used by other threads during the search. Board is left in the
+ * same state as before the search.
+ *
+ */
+public class SearchEngine {
+
+	public static final int MATE_SCORE = 100000;
+
+	private static final int INFINITY = 1000000;
+	private static final int MAX_PLY = SearchLimits.MAX_DEPTH * 2;
+	private static final int NODES_BETWEEN_TIME_CHECKS = 1024;
+	private static final int DEFAULT_TRANSPOSITION_TABLE_SIZE = 16;
+
+	private final BoardManager boardManager;
+	private final Board board;
+	private final TranspositionTable transpositionTable;
+	private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+	private final int[][] principalVariations = new int[MAX_PLY + 1][MAX_PLY + 1];
+	private final int[] principalVariationLengths = new int[MAX_PLY + 1];
+	private final MoveOrderer moveOrderer = new MoveOrderer(MAX_PLY);
+
+	private long nodes;
+	private long cutoffs;
+	private long firstMoveCutoffs;
+	private long maxNodes;
+	private long deadline;
+	private boolean limitsActive;
+	private volatile boolean stopped;
+
+	public SearchEngine(BoardManager boardManager) {
+		this(boardManager, new TranspositionTable(DEFAULT_TRANSPOSITION_TABLE_SIZE));
+	}
+
+	public SearchEngine(BoardManager boardManager, TranspositionTable transpositionTable) {
+		this.boardManager = boardManager;
+		this.board = boardManager.getBoard();
+		this.transpositionTable = transpositionTable;
+		for (int ply = 0; ply < moveLists.length; ply++) {
+			moveLists[ply] = new MoveList();
+		}
+	}
+
+	/**
+	 * Searches for the best move of the side to move. Iterations with
+	 * increasing depth are run until one of the limits is reached; result of
+	 * the last completed iteration is returned. First iteration is always
+	 * completed, so a move is returned whenever a legal move exists.
+	 *
+	 * @param limits search limits
+	 * @return best move, its score and principal variation
+	 */
+	public SearchResult search(SearchLimits limits) {
+		stopped = false;
+		return search(limits, 1);
+	}
+
+	/**
+	 * Runs iterative deepening starting from given depth. Stop flag is not
+	 * cleared, so {@link #stop()} called before the search starts is not
+	 * lost.
+	 *
+	 * @param limits search limits
+	 * @param firstDepth depth of the first iteration
+	 * @return result of the last completed iteration
+	 */
+	SearchResult search(SearchLimits limits, int firstDepth) {
+		long startTime = System.currentTimeMillis();
+		nodes = 0;
+		cutoffs = 0;
+		firstMoveCutoffs = 0;
+		moveOrderer.startSearch();
+		maxNodes = limits.getMaxNodes();
+		deadline = limits.getMaxTimeMillis() > 0 ? startTime + limits.getMaxTimeMillis() : 0;
+		limitsActive = false;
+
+		Color sideToMove = board.getSideToMove();
+		MoveList rootMoves = moveLists[0];
+		boardManager.generateLegalMoves(sideToMove, rootMoves);
+		if (rootMoves.isEmpty()) {
+			int score = isInCheck(sideToMove) ? -MATE_SCORE : 0;
+			return new SearchResult(new ArrayList<Move>(), score, 0, 0, 0, 0, System.currentTimeMillis() - startTime);
+		}
+
+		int[] bestLine = new int[0];
+		int bestScore = 0;
+		int completedDepth = 0;
+		for (int depth = Math.min(firstDepth, limits.getMaxDepth()); depth <= limits.getMaxDepth(); depth++) {
+			int score = searchRoot(depth, bestLine.length > 0 ? bestLine[0] : PackedMove.NONE);
+			if (stopped) {
+				break;
+			}
+			bestScore = score;
+			completedDepth = depth;
+			bestLine = new int[principalVariationLengths[0]];
+			System.arraycopy(principalVariations[0], 0, bestLine, 0, bestLine.length);
+			// limits are checked only after the first iteration is completed
+			limitsActive = true;
+			if (Math.abs(score) > MATE_SCORE - MAX_PLY) {
+				break;
+			}
+		}
+
+		return new SearchResult(toMoves(bestLine), bestScore, completedDepth, nodes, cutoffs, firstMoveCutoffs,
+				System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * Stops the search started in another thread. Result of the last
+	 * completed iteration is returned by {@link #search(SearchLimits)}.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	void resetStop() {
+		stopped = false;
+	}
+
+	public TranspositionTable getTranspositionTable() {
+		return transpositionTable;
+	}
+
+	private int searchRoot(int depth, int previousBestMove) {
+		MoveList moves = moveLists[0];
+		moveToFront(moves, previousBestMove);
+		principalVariationLengths[0] = 0;
+		nodes++;
+
+		int alpha = -INFINITY;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moves.get(i);
+			board.makeMove(move);
+			int score = -alphaBeta(depth - 1, 1, -INFINITY, -alpha);
+			board.unmakeMove();
+			if (stopped) {
+				return 0;
+			}
+			if (score > alpha) {
+				alpha = score;
+				updatePrincipalVariation(0, move);
+			}
+		}
+		return alpha;
+	}
+
+	private int alphaBeta(int depth, int ply, int alpha, int beta) {
+		if (depth <= 0) {
+			return quiescence(ply, alpha, beta);
+		}
+		principalVariationLengths[ply] = 0;
+		if (countNode()) {
+			return 0;
+		}
+		if (board.countRepetitions() > 0) {
+			return 0;
+		}
+
+		long key = board.getZobristKey();
+		long entry = transpositionTable.probe(key);
+		int hashMove = PackedMove.NONE;
+		if (entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.getMove(entry);
+			if (TranspositionTable.getDepth(entry) >= depth) {
+				int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+				int bound = TranspositionTable.getBound(entry);
+				if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+						|| (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+
+		Color sideToMove = board.getSideToMove();
+		MoveList moves = moveLists[ply];
+		boardManager.generateLegalMoves(sideToMove, moves);
+		if (moves.isEmpty()) {
+			return isInCheck(sideToMove) ? -MATE_SCORE + ply : 0;
+		}
+		if (ply >= MAX_PLY) {
+			return Evaluator.evaluate(board);
+		}
+		moveOrderer.scoreMoves(moves, ply, hashMove, sideToMove);
+
+		int originalAlpha = alpha;
+		int bestMove = PackedMove.NONE;
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moveOrderer.nextMove(moves, ply, i);
+			board.makeMove(move);
+			int score = -alphaBeta(depth - 1, ply + 1, -beta, -alpha);
+			board.unmakeMove();
+			if (stopped) {
+				return 0;
+			}
+			if (score > alpha) {
+				alpha = score;
+				bestMove = move;
+				updatePrincipalVariation(ply, move);
+				if (alpha >= beta) {
+					countCutoff(i);
+					moveOrderer.recordCutoff(move, ply, depth, sideToMove);
+					break;
+				}
+			}
+		}
+
+		int bound;
+		if (alpha >= beta) {
+			bound = TranspositionTable.LOWER_BOUND;
+		} else if (alpha > originalAlpha) {
+			bound = TranspositionTable.EXACT;
+		} else {
+			bound = TranspositionTable.UPPER_BOUND;
+		}
+		transpositionTable.store(key, depth, bound, toTableScore(alpha, ply), bestMove);
+		return alpha;
+	}
+
+	/**
+	 * Searches captures and promotions only, so the position is evaluated
+	 * when no piece hangs
+	 */
+	private int quiescence(int ply, int alpha, int beta) {
+		principalVariationLengths[ply] = 0;
+		if (countNode()) {
+			return 0;
+		}
+
+		int standPat = Evaluator.evaluate(board);
+		if (ply >= MAX_PLY || standPat >= beta) {
+			return standPat;
+		}
+		if (standPat > alpha) {
+			alpha = standPat;
+		}
+
+		Color sideToMove = board.getSideToMove();
+		MoveList moves = moveLists[ply];
+		boardManager.generateLegalMoves(sideToMove, moves);
+		moveOrderer.scoreMoves(moves, ply, PackedMove.NONE, sideToMove);
+		for (int i = 0; i < moves.size(); i++) {
+			int move = moveOrderer.nextMove(moves, ply, i);
+			// captures and promotions are ordered before quiet moves
+			if (!PackedMove.isCapture(move) && !PackedMove.isPromotion(move)) {
+				break;
+			}
+			// losing captures are not searched, stand pat is at least as good
+			if (!PackedMove.isPromotion(move) && boardManager.staticExchangeEvaluation(move) < 0) {
+				continue;
+			}
+			board.makeMove(move);
+			int score = -quiescence(ply + 1, -beta, -alpha);
+			board.unmakeMove();
+			if (stopped) {
+				return 0;
+			}
+			if (score > alpha) {
+				alpha = score;
+				updatePrincipalVariation(ply, move);
+				if (alpha >= beta) {
+					break;
+				}
+			}
+		}
+		return alpha;
+	}
+
+	/**
+	 * Counts visited node and checks search limits
+	 *
+	 * @return true if search has to be stopped
+	 */
+	private boolean countNode() {
+		nodes++;
+		if (limitsActive) {
+			if (maxNodes > 0 && nodes >= maxNodes) {
+				stopped = true;
+			} else if (deadline > 0 && nodes % NODES_BETWEEN_TIME_CHECKS == 0
+					&& System.currentTimeMillis() >= deadline) {
+				stopped = true;
+			}
+		}
+		return stopped;
+	}
+
+	private void countCutoff(int moveIndex) {
+		cutoffs++;
+		if (moveIndex == 0) {
+			firstMoveCutoffs++;
+		}
+	}
+
+	private void updatePrincipalVariation(int ply, int move) {
+		int[] line = principalVariations[ply];
+		int childLength = principalVariationLengths[ply + 1];
+		line[0] = move;
+		System.arraycopy(principalVariations[ply + 1], 0, line, 1, childLength);
+		principalVariationLengths[ply] = childLength + 1;
+	}
+
+	/**
+	 * Mate scores are stored in the table as distance to mate from the
+	 * stored position, not from the root
+	 */
+	private static int toTableScore(int score, int ply) {
+		if (score > MATE_SCORE - MAX_PLY) {
+			return score + ply;
+		}
+		if (score < -MATE_SCORE + MAX_PLY) {
+			return score - ply;
+		}
+		return score;
+	}
+
+	private static int fromTableScore(int score, int ply) {
+		if (score > MATE_SCORE - MAX_PLY) {
+			return score - ply;
+		}
+		if (score < -MATE_SCORE + MAX_PLY) {
+			return score + ply;
+		}
+		return score;
+	}
+
+	private boolean isInCheck(Color color) {
+		int kingSquare = board.getKingSquare(color);
+		Color enemyColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+		return kingSquare != Bitboards.NO_SQUARE && AttackTables.isSquareAttacked(board, kingSquare, enemyColor);
+	}
+
+	private List<Move> toMoves(int[] line) {
+		List<Move> moves = new ArrayList<>(line.length);
+		for (int move : line) {
+			moves.add(PackedMove.toMove(move, board));
+			board.makeMove(move);
+		}
+		for (int i = 0; i < line.length; i++) {
+			board.unmakeMove();
+		}
+		return moves;
+	}
+
+	private static void moveToFront(MoveList moves, int move) {
+		for (int i = 1; i < moves.size(); i++) {
+			if (moves.get(i) == move) {
+				moves.set(i, moves.get(0));
+				moves.set(0, move);
+				return;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.capgemini.chess.algorithms.search;
+
+/**
+ * Limits of the search. Search stops after reaching maximal depth, when
+ * time budget is used or when maximal number of nodes is visited, whichever
+ * comes first. Time and node limits equal to 0 mean no limit.
+ *
+ */
+public class SearchLimits {
+
+	public static final int MAX_DEPTH = 64;
+
+	private int maxDepth = MAX_DEPTH;
+	private long maxTimeMillis;
+	private long maxNodes;
+
+	public SearchLimits() {
+	}
+
+	public SearchLimits(int maxDepth, long maxTimeMillis, long maxNodes) {
+		setMaxDepth(maxDepth);
+		this.maxTimeMillis = maxTimeMillis;
+		this.maxNodes = maxNodes;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_DEPTH));
+	}
+
+	public long getMaxTimeMillis() {
+		return maxTimeMillis;
+	}
+
+	public void setMaxTimeMillis(long maxTimeMillis) {
+		this.maxTimeMillis = maxTimeMillis;
+	}
+
+	public long getMaxNodes() {
+		return maxNodes;
+	}
+
+	public void setMaxNodes(long maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+
+}
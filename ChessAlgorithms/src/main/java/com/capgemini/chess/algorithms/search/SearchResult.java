@@ -0,0 +1,115 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Move;
+
+/**
+ * Result of the last completed iteration of the search.
+ *
+ */
+public class SearchResult {
+
+	private final List<Move> principalVariation;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long cutoffs;
+	private final long firstMoveCutoffs;
+	private final long elapsedMillis;
+
+	public SearchResult(List<Move> principalVariation, int score, int depth, long nodes, long cutoffs,
+			long firstMoveCutoffs, long elapsedMillis) {
+		this.principalVariation = principalVariation;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.cutoffs = cutoffs;
+		this.firstMoveCutoffs = firstMoveCutoffs;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	/**
+	 * Gets best move found by the search
+	 *
+	 * @return best move or null if side to move has no legal moves
+	 */
+	public Move getBestMove() {
+		return principalVariation.isEmpty() ? null : principalVariation.get(0);
+	}
+
+	/**
+	 * Gets expected line of play, starting with the best move
+	 *
+	 * @return moves of the principal variation
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * Gets score of the position in centipawns from the point of view of the
+	 * side to move. Mate scores are close to {@link SearchEngine#MATE_SCORE}.
+	 *
+	 * @return position score
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	public boolean isMateScore() {
+		return Math.abs(score) > SearchEngine.MATE_SCORE - SearchLimits.MAX_DEPTH * 2;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Gets number of nodes visited by the whole search, including iterations
+	 * which were not completed
+	 *
+	 * @return number of nodes
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Gets number of beta cutoffs in the main search (without quiescence
+	 * search)
+	 *
+	 * @return number of cutoffs
+	 */
+	public long getCutoffs() {
+		return cutoffs;
+	}
+
+	/**
+	 * Gets number of beta cutoffs caused by the first move tried in the node
+	 *
+	 * @return number of first move cutoffs
+	 */
+	public long getFirstMoveCutoffs() {
+		return firstMoveCutoffs;
+	}
+
+	/**
+	 * Gets part of cutoffs caused by the first move tried, which shows how
+	 * good the move ordering is
+	 *
+	 * @return rate between 0 and 1, 0 if there were no cutoffs
+	 */
+	public double getFirstMoveCutoffRate() {
+		return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public long getNodesPerSecond() {
+		return elapsedMillis == 0 ? nodes * 1000 : nodes * 1000 / elapsedMillis;
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.capgemini.chess.algorithms.search;
+
+/**
+ * Result of parallel search run with given number of threads, compared with
+ * single thread search of the same position to the same depth.
+ *
+ */
+public class SpeedupMeasurement {
+
+	private final int threadCount;
+	private final long elapsedMillis;
+	private final long nodes;
+	private final double speedup;
+
+	public SpeedupMeasurement(int threadCount, long elapsedMillis, long nodes, double speedup) {
+		this.threadCount = threadCount;
+		this.elapsedMillis = elapsedMillis;
+		this.nodes = nodes;
+		this.speedup = speedup;
+	}
+
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public long getNodes() {
+		return nodes;
+	}
+
+	public long getNodesPerSecond() {
+		return nodes * 1000 / elapsedMillis;
+	}
+
+	/**
+	 * Gets time to depth of single thread search divided by time to depth of
+	 * this search
+	 *
+	 * @return speedup factor
+	 */
+	public double getSpeedup() {
+		return speedup;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("threads=%d time=%dms nodes=%d nps=%d speedup=%.2f", threadCount, elapsedMillis, nodes,
+				getNodesPerSecond(), speedup);
+	}
+
+}
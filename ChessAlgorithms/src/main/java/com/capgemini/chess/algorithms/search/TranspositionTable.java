@@ -0,0 +1,190 @@
+package com.capgemini.chess.algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size hash table of search results keyed by Zobrist key of the
+ * position. Entries are kept in primitive arrays, two entries per bucket: the
+ * first one is replaced only by results of deeper (or equal) searches, the
+ * second one is always replaced. Every entry takes 16 bytes: the key and
+ * the data packed into a long.
+ *
+ * <pre>
+ * bits  0-20  best move packed with PackedMove
+ * bits 21-41  score + SCORE_OFFSET
+ * bits 42-49  depth
+ * bits 50-51  bound type
+ * </pre>
+ *
+ * Table can be shared by threads without locking. Key is stored XOR-ed with
+ * the data, so an entry torn by concurrent writes is not returned for the
+ * position. Counters are not synchronized, so with many threads they are
+ * approximate.
+ *
+ */
+public class TranspositionTable {
+
+	public static final int UPPER_BOUND = 1;
+	public static final int LOWER_BOUND = 2;
+	public static final int EXACT = 3;
+
+	/**
+	 * Returned by {@link #probe(long)} when position is not in the table
+	 */
+	public static final long NO_ENTRY = 0L;
+
+	private static final int ENTRY_BYTES = 16;
+	private static final int BUCKET_SIZE = 2;
+
+	private static final int SCORE_SHIFT = 21;
+	private static final int DEPTH_SHIFT = 42;
+	private static final int BOUND_SHIFT = 50;
+	private static final long MOVE_MASK = (1L << 21) - 1;
+	private static final long SCORE_MASK = (1L << 21) - 1;
+	private static final long DEPTH_MASK = 0xFF;
+	private static final long BOUND_MASK = 0x3;
+	private static final int SCORE_OFFSET = 1 << 20;
+
+	private final long[] keys;
+	private final long[] data;
+	private final long bucketMask;
+
+	private long probes;
+	private long hits;
+	private long stores;
+	private long overwrites;
+
+	/**
+	 * Creates table which takes at most given amount of memory. Number of
+	 * buckets is rounded down to power of two.
+	 *
+	 * @param sizeInMegabytes size of the table in megabytes
+	 */
+	public TranspositionTable(int sizeInMegabytes) {
+		long entries = Math.max(BUCKET_SIZE, (long) sizeInMegabytes * 1024 * 1024 / ENTRY_BYTES);
+		int buckets = Integer.highestOneBit((int) Math.min(entries / BUCKET_SIZE, 1 << 29));
+		keys = new long[buckets * BUCKET_SIZE];
+		data = new long[buckets * BUCKET_SIZE];
+		bucketMask = buckets - 1;
+	}
+
+	/**
+	 * Finds entry of the position
+	 *
+	 * @param key Zobrist key of the position
+	 * @return packed entry or {@link #NO_ENTRY}
+	 */
+	public long probe(long key) {
+		probes++;
+		int index = getBucketIndex(key);
+		for (int i = index; i < index + BUCKET_SIZE; i++) {
+			long entry = data[i];
+			if (entry != NO_ENTRY && (keys[i] ^ entry) == key) {
+				hits++;
+				return entry;
+			}
+		}
+		return NO_ENTRY;
+	}
+
+	/**
+	 * Stores search result of the position. Result replaces entry in the
+	 * depth-preferred slot if it comes from the same position or from search
+	 * which was not deeper, otherwise it is stored in the always-replace slot.
+	 *
+	 * @param key Zobrist key of the position
+	 * @param depth search depth
+	 * @param bound bound type ({@link #EXACT}, {@link #LOWER_BOUND} or
+	 *            {@link #UPPER_BOUND})
+	 * @param score score of the position
+	 * @param move best move packed with PackedMove or PackedMove.NONE
+	 */
+	public void store(long key, int depth, int bound, int score, int move) {
+		stores++;
+		long entry = (move & MOVE_MASK) | ((long) (score + SCORE_OFFSET) & SCORE_MASK) << SCORE_SHIFT
+				| ((long) depth & DEPTH_MASK) << DEPTH_SHIFT | ((long) bound & BOUND_MASK) << BOUND_SHIFT;
+		int index = getBucketIndex(key);
+		long preferred = data[index];
+		if (preferred == NO_ENTRY || (keys[index] ^ preferred) == key || depth >= getDepth(preferred)) {
+			write(index, key, entry);
+		} else {
+			write(index + 1, key, entry);
+		}
+	}
+
+	/**
+	 * Removes all entries and resets counters
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0L);
+		Arrays.fill(data, NO_ENTRY);
+		probes = 0;
+		hits = 0;
+		stores = 0;
+		overwrites = 0;
+	}
+
+	public static int getMove(long entry) {
+		return (int) (entry & MOVE_MASK);
+	}
+
+	public static int getScore(long entry) {
+		return (int) ((entry >>> SCORE_SHIFT) & SCORE_MASK) - SCORE_OFFSET;
+	}
+
+	public static int getDepth(long entry) {
+		return (int) ((entry >>> DEPTH_SHIFT) & DEPTH_MASK);
+	}
+
+	public static int getBound(long entry) {
+		return (int) ((entry >>> BOUND_SHIFT) & BOUND_MASK);
+	}
+
+	public int getCapacity() {
+		return data.length;
+	}
+
+	public long getProbes() {
+		return probes;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getStores() {
+		return stores;
+	}
+
+	/**
+	 * Gets number of stores which replaced entry of another position
+	 *
+	 * @return number of overwritten entries
+	 */
+	public long getOverwrites() {
+		return overwrites;
+	}
+
+	/**
+	 * Gets ratio of probes which found the position
+	 *
+	 * @return hit rate from 0 to 1
+	 */
+	public double getHitRate() {
+		return probes == 0 ? 0 : (double) hits / probes;
+	}
+
+	private void write(int index, long key, long entry) {
+		long previous = data[index];
+		if (previous != NO_ENTRY && (keys[index] ^ previous) != key) {
+			overwrites++;
+		}
+		keys[index] = key ^ entry;
+		data[index] = entry;
+	}
+
+	private int getBucketIndex(long key) {
+		return (int) (key & bucketMask) * BUCKET_SIZE;
+	}
+
+}
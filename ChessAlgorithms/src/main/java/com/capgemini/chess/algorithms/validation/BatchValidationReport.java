@@ -0,0 +1,60 @@
+package com.capgemini.chess.algorithms.validation;
+
+/**
+ * Summary of validation of a corpus of games.
+ *
+ */
+public class BatchValidationReport {
+
+	private final int gameCount;
+	private final int invalidGameCount;
+	private final long plyCount;
+	private final long elapsedMillis;
+
+	public BatchValidationReport(int gameCount, int invalidGameCount, long plyCount, long elapsedMillis) {
+		this.gameCount = gameCount;
+		this.invalidGameCount = invalidGameCount;
+		this.plyCount = plyCount;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public int getGameCount() {
+		return gameCount;
+	}
+
+	public int getValidGameCount() {
+		return gameCount - invalidGameCount;
+	}
+
+	public int getInvalidGameCount() {
+		return invalidGameCount;
+	}
+
+	/**
+	 * Gets number of moves performed in all games
+	 *
+	 * @return number of valid moves
+	 */
+	public long getPlyCount() {
+		return plyCount;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public long getGamesPerSecond() {
+		return elapsedMillis == 0 ? gameCount * 1000L : gameCount * 1000L / elapsedMillis;
+	}
+
+	public long getPliesPerSecond() {
+		return elapsedMillis == 0 ? plyCount * 1000 : plyCount * 1000 / elapsedMillis;
+	}
+
+	@Override
+	public String toString() {
+		return gameCount + " games (" + invalidGameCount + " invalid), " + plyCount + " plies in " + elapsedMillis
+				+ " ms: " + getGamesPerSecond() + " games/s, " + getPliesPerSecond() + " plies/s";
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.capgemini.chess.algorithms.validation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.capgemini.chess.algorithms.data.Move;
+
+/**
+ * Validates many games in parallel. Games are split between threads of a
+ * fork-join pool, every thread validates its games with its own
+ * {@link GameValidator}, so boards are reused instead of created for every
+ * game. Result of every game is passed to the consumer as soon as the game
+ * is validated.
+ *
+ */
+public class BatchValidator {
+
+	private static final int GAMES_PER_TASK = 16;
+
+	private final ForkJoinPool pool;
+	private final ThreadLocal<GameValidator> validators = ThreadLocal.withInitial(GameValidator::new);
+
+	/**
+	 * Creates validator using all available processors
+	 */
+	public BatchValidator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public BatchValidator(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+		}
+		this.pool = new ForkJoinPool(threadCount);
+	}
+
+	/**
+	 * Validates games. Consumer is called from validating threads, in the
+	 * order games are finished, so it must be thread safe.
+	 *
+	 * @param games moves of every game, starting from the initial position
+	 * @param consumer consumer of results of single games
+	 * @return summary of the validation
+	 */
+	public BatchValidationReport validate(List<? extends List<Move>> games, Consumer<GameValidationResult> consumer) {
+		AtomicInteger invalidGameCount = new AtomicInteger();
+		AtomicLong plyCount = new AtomicLong();
+		Consumer<GameValidationResult> counter = result -> {
+			if (!result.isValid()) {
+				invalidGameCount.incrementAndGet();
+			}
+			plyCount.addAndGet(result.getPlyCount());
+			consumer.accept(result);
+		};
+
+		long start = System.currentTimeMillis();
+		pool.invoke(new ValidationTask(games, 0, games.size(), counter));
+		long elapsedMillis = System.currentTimeMillis() - start;
+
+		return new BatchValidationReport(games.size(), invalidGameCount.get(), plyCount.get(), elapsedMillis);
+	}
+
+	/**
+	 * Stops threads of the pool. Games can not be validated after shutdown.
+	 */
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private class ValidationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<? extends List<Move>> games;
+		private final int from;
+		private final int to;
+		private final Consumer<GameValidationResult> consumer;
+
+		ValidationTask(List<? extends List<Move>> games, int from, int to, Consumer<GameValidationResult> consumer) {
+			this.games = games;
+			this.from = from;
+			this.to = to;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= GAMES_PER_TASK) {
+				GameValidator validator = validators.get();
+				for (int i = from; i < to; i++) {
+					consumer.accept(validator.validate(i, games.get(i)));
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new ValidationTask(games, from, middle, consumer),
+					new ValidationTask(games, middle, to, consumer));
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.capgemini.chess.algorithms.validation;
+
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+/**
+ * Result of validation of a single game: final state of the board and draw
+ * rule flags of a valid game, or reason why the game is not valid.
+ *
+ */
+public class GameValidationResult {
+
+	private final int gameIndex;
+	private final int plyCount;
+	private final String failureReason;
+	private final BoardState boardState;
+	private final boolean threefoldRepetition;
+	private final boolean fiftyMoveRule;
+
+	public GameValidationResult(int gameIndex, int plyCount, BoardState boardState, boolean threefoldRepetition,
+			boolean fiftyMoveRule) {
+		this(gameIndex, plyCount, null, boardState, threefoldRepetition, fiftyMoveRule);
+	}
+
+	public GameValidationResult(int gameIndex, int plyCount, String failureReason) {
+		this(gameIndex, plyCount, failureReason, null, false, false);
+	}
+
+	private GameValidationResult(int gameIndex, int plyCount, String failureReason, BoardState boardState,
+			boolean threefoldRepetition, boolean fiftyMoveRule) {
+		this.gameIndex = gameIndex;
+		this.plyCount = plyCount;
+		this.failureReason = failureReason;
+		this.boardState = boardState;
+		this.threefoldRepetition = threefoldRepetition;
+		this.fiftyMoveRule = fiftyMoveRule;
+	}
+
+	/**
+	 * @return index of the game in the validated corpus
+	 */
+	public int getGameIndex() {
+		return gameIndex;
+	}
+
+	/**
+	 * Gets number of moves played before validation finished or failed
+	 *
+	 * @return number of valid moves (of both sides)
+	 */
+	public int getPlyCount() {
+		return plyCount;
+	}
+
+	public boolean isValid() {
+		return failureReason == null;
+	}
+
+	/**
+	 * @return description of the invalid move or null if game is valid
+	 */
+	public String getFailureReason() {
+		return failureReason;
+	}
+
+	/**
+	 * @return state of the board after the last move or null if game is not
+	 *         valid
+	 */
+	public BoardState getBoardState() {
+		return boardState;
+	}
+
+	public boolean isThreefoldRepetition() {
+		return threefoldRepetition;
+	}
+
+	public boolean isFiftyMoveRule() {
+		return fiftyMoveRule;
+	}
+
+	@Override
+	public String toString() {
+		if (!isValid()) {
+			return "Game " + gameIndex + ": " + failureReason;
+		}
+		return "Game " + gameIndex + ": " + boardState + " after " + plyCount + " plies"
+				+ (threefoldRepetition ? ", threefold repetition" : "") + (fiftyMoveRule ? ", 50-move rule" : "");
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.capgemini.chess.algorithms.validation;
+
+import java.util.List;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.MoveValidation;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Validates games by performing their moves with
+ * {@link BoardManager#makeMove(Coordinate, Coordinate)}, which reports invalid
+ * moves without exceptions and does not publish board snapshots; state of the
+ * board is calculated once, after the last move. One board is reused for all
+ * games: it is reset to the initial position before every game instead of
+ * creating a new board manager.
+ * 
+ * Validator is not thread safe; every thread needs its own instance.
+ *
+ */
+public class GameValidator {
+
+	private final Board board = new Board();
+	private final BoardManager boardManager = new BoardManager(board);
+
+	/**
+	 * Plays game from the initial position
+	 *
+	 * @param gameIndex index of the game reported in the result
+	 * @param moves moves of the game
+	 * @return validation result
+	 */
+	public GameValidationResult validate(int gameIndex, List<Move> moves) {
+		Fen.load(Fen.INITIAL_POSITION, board);
+
+		int plyCount = 0;
+		for (Move move : moves) {
+			if (move == null || move.getFrom() == null || move.getTo() == null) {
+				return new GameValidationResult(gameIndex, plyCount,
+						"Move " + (plyCount + 1) + " has no coordinates");
+			}
+			MoveValidation validation = boardManager.makeMove(move.getFrom(), move.getTo());
+			if (!validation.isValid()) {
+				return new GameValidationResult(gameIndex, plyCount, "Move " + (plyCount + 1) + " "
+						+ toNotation(move.getFrom()) + "-" + toNotation(move.getTo()) + ": " + toMessage(validation));
+			}
+			plyCount++;
+		}
+
+		BoardState boardState = boardManager.updateBoardState();
+		return new GameValidationResult(gameIndex, plyCount, boardState, boardManager.checkThreefoldRepetitionRule(),
+				boardManager.checkFiftyMoveRule());
+	}
+
+	private static String toMessage(MoveValidation validation) {
+		if (validation.getMessage() == null) {
+			return "Invalid move!";
+		}
+		return "Invalid move! " + validation.getMessage();
+	}
+
+	private static String toNotation(Coordinate coordinate) {
+		return String.valueOf((char) ('a' + coordinate.getX())) + (coordinate.getY() + 1);
+	}
+
+}
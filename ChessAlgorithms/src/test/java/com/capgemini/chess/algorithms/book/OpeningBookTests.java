@@ -0,0 +1,173 @@
+package com.capgemini.chess.algorithms.book;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+import com.capgemini.chess.algorithms.pgn.PgnGame;
+
+/**
+ * Test class for testing {@link OpeningBook} and {@link OpeningBookBuilder}
+ *
+ */
+public class OpeningBookTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldFindWeightedMovesOfInitialPosition() throws Exception {
+		// given
+		OpeningBookBuilder builder = new OpeningBookBuilder();
+		builder.addGame(game("e4", "e5", "Nf3"));
+		builder.addGame(game("e4", "c5"));
+		builder.addGame(game("d4", "d5"));
+		File file = folder.newFile("book.bin");
+		int entryCount = builder.build(file.toPath());
+
+		// when
+		List<BookMove> moves;
+		int bookSize;
+		try (OpeningBook book = new OpeningBook(file.toPath())) {
+			moves = book.findMoves(new BoardManager());
+			bookSize = book.size();
+		}
+
+		// then
+		assertEquals(6, entryCount);
+		assertEquals(entryCount, bookSize);
+		assertEquals(6 * OpeningBook.ENTRY_SIZE, Files.size(file.toPath()));
+		assertEquals(2, moves.size());
+		assertEquals(new Coordinate(4, 3), moves.get(0).getMove().getTo());
+		assertEquals(2, moves.get(0).getWeight());
+		assertEquals(new Coordinate(3, 3), moves.get(1).getMove().getTo());
+		assertEquals(1, moves.get(1).getWeight());
+	}
+
+	@Test
+	public void shouldFindMovesAfterTransposition() throws Exception {
+		// given
+		OpeningBookBuilder builder = new OpeningBookBuilder();
+		builder.addGame(game("e4", "e5", "Nf3", "Nc6", "Bc4"));
+		File file = folder.newFile("book.bin");
+		builder.build(file.toPath());
+		BoardManager boardManager = play("g1f3", "b8c6", "e2e4", "e7e5");
+
+		// when
+		List<BookMove> moves;
+		try (OpeningBook book = new OpeningBook(file.toPath())) {
+			moves = book.findMoves(boardManager);
+		}
+
+		// then
+		assertEquals(1, moves.size());
+		assertEquals(new Coordinate(5, 0), moves.get(0).getMove().getFrom());
+		assertEquals(new Coordinate(2, 3), moves.get(0).getMove().getTo());
+	}
+
+	@Test
+	public void shouldEncodeCastlingAsKingMoveToRookField() throws Exception {
+		// given
+		OpeningBookBuilder builder = new OpeningBookBuilder();
+		builder.addGame(game("e4", "e5", "Nf3", "Nc6", "Bc4", "Bc5", "O-O"));
+		File file = folder.newFile("book.bin");
+		builder.build(file.toPath());
+		BoardManager boardManager = play("e2e4", "e7e5", "g1f3", "b8c6", "f1c4", "f8c5");
+
+		// when
+		List<BookMove> moves;
+		try (OpeningBook book = new OpeningBook(file.toPath())) {
+			moves = book.findMoves(boardManager);
+		}
+
+		// then
+		assertEquals(1, moves.size());
+		assertEquals(MoveType.CASTLING, moves.get(0).getMove().getType());
+		assertEquals(new Coordinate(6, 0), moves.get(0).getMove().getTo());
+		int castling = PackedMove.fromMove(moves.get(0).getMove(), boardManager.getBoard());
+		assertEquals(Bitboards.square(7, 0) | (Bitboards.square(4, 0) << 6), OpeningBook.encodeMove(castling));
+	}
+
+	@Test
+	public void shouldStopAddingGameAtMaxPlyAndIllegalMove() throws Exception {
+		// given
+		OpeningBookBuilder builder = new OpeningBookBuilder(2);
+
+		// when
+		int addedPlies = builder.addGame(game("e4", "e5", "Nf3"));
+		int addedPliesOfIllegalGame = builder.addGame(game("e4", "Ke3"));
+		int addedPliesOfMoveList = builder.addGame(play("d2d4", "d7d5", "c2c4").getBoard().getMoveHistory());
+
+		// then
+		assertEquals(2, addedPlies);
+		assertEquals(1, addedPliesOfIllegalGame);
+		assertEquals(2, addedPliesOfMoveList);
+	}
+
+	@Test
+	public void shouldNotFindMovesOfUnknownPosition() throws Exception {
+		// given
+		OpeningBookBuilder builder = new OpeningBookBuilder();
+		builder.addGame(game("e4", "e5"));
+		File file = folder.newFile("book.bin");
+		builder.build(file.toPath());
+
+		// when
+		List<BookMove> moves;
+		try (OpeningBook book = new OpeningBook(file.toPath())) {
+			moves = book.findMoves(play("d2d4"));
+		}
+
+		// then
+		assertTrue(moves.isEmpty());
+	}
+
+	@Test
+	public void shouldGetExceptionForInvalidBookFile() throws Exception {
+		// given
+		File file = folder.newFile("book.bin");
+		Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+
+		// when
+		boolean exceptionThrown = false;
+		try (OpeningBook book = new OpeningBook(file.toPath())) {
+			book.size();
+		} catch (IOException e) {
+			exceptionThrown = true;
+		}
+
+		// then
+		assertTrue(exceptionThrown);
+	}
+
+	private static PgnGame game(String... moves) {
+		PgnGame game = new PgnGame(1);
+		for (String move : moves) {
+			game.addMove(move);
+		}
+		return game;
+	}
+
+	private static BoardManager play(String... moves) throws InvalidMoveException {
+		BoardManager boardManager = new BoardManager();
+		for (String move : moves) {
+			boardManager.performMove(new Coordinate(move.charAt(0) - 'a', move.charAt(1) - '1'),
+					new Coordinate(move.charAt(2) - 'a', move.charAt(3) - '1'));
+		}
+		return boardManager;
+	}
+
+}
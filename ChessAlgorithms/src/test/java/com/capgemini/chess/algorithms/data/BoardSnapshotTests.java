@@ -0,0 +1,111 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+public class BoardSnapshotTests {
+
+	@Test
+	public void shouldCopyPositionOfBoard() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager();
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+
+		// when
+		BoardSnapshot snapshot = boardManager.getBoard().createSnapshot();
+
+		// then
+		Board board = boardManager.getBoard();
+		assertEquals(PieceType.PAWN, snapshot.getPieceAt(new Coordinate(4, 3)).getType());
+		assertNull(snapshot.getPieceAt(Bitboards.square(4, 1)));
+		assertEquals(board.getOccupancy(), snapshot.getOccupancy());
+		assertEquals(board.getPieceBitboard(Color.WHITE, PieceType.PAWN),
+				snapshot.getPieceBitboard(Color.WHITE, PieceType.PAWN));
+		assertEquals(board.getColorBitboard(Color.BLACK), snapshot.getColorBitboard(Color.BLACK));
+		assertEquals(Color.BLACK, snapshot.getSideToMove());
+		assertEquals(Bitboards.square(4, 2), snapshot.getEnPassantSquare());
+		assertEquals(board.getCastlingRights(), snapshot.getCastlingRights());
+		assertEquals(board.getZobristKey(), snapshot.getZobristKey());
+		assertEquals(1, snapshot.getMoveCount());
+		assertEquals("e2e4", PackedMove.toNotation(snapshot.getLastMove()));
+	}
+
+	@Test
+	public void shouldNotChangeSnapshotWhenNextMoveIsPerformed() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager();
+		BoardSnapshot initialSnapshot = boardManager.getSnapshot();
+
+		// when
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+
+		// then
+		assertNotSame(initialSnapshot, boardManager.getSnapshot());
+		assertEquals(PieceType.KNIGHT, initialSnapshot.getPieceAt(new Coordinate(6, 0)).getType());
+		assertNull(initialSnapshot.getPieceAt(new Coordinate(5, 2)));
+		assertEquals(Color.WHITE, initialSnapshot.getSideToMove());
+		assertEquals(PackedMove.NONE, initialSnapshot.getLastMove());
+		assertEquals(PieceType.KNIGHT, boardManager.getSnapshot().getPieceAt(new Coordinate(5, 2)).getType());
+	}
+
+	@Test
+	public void shouldPublishBoardState() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/R3K3 w - - 0 1");
+		boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 7));
+
+		// when
+		boardManager.updateBoardState();
+
+		// then
+		assertEquals(BoardState.CHECK, boardManager.getSnapshot().getState());
+	}
+
+	@Test
+	public void shouldReadConsistentSnapshotsWhileMovesArePerformed() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager();
+		AtomicBoolean finished = new AtomicBoolean();
+		AtomicReference<String> error = new AtomicReference<>();
+		Thread spectator = new Thread(() -> {
+			while (!finished.get()) {
+				BoardSnapshot snapshot = boardManager.getSnapshot();
+				Color expectedSide = snapshot.getMoveCount() % 2 == 0 ? Color.WHITE : Color.BLACK;
+				if (snapshot.getSideToMove() != expectedSide || Long.bitCount(snapshot.getOccupancy()) != 32) {
+					error.set("Inconsistent snapshot after " + snapshot.getMoveCount() + " moves");
+				}
+			}
+		});
+		spectator.start();
+
+		// when
+		for (int i = 0; i < 200; i++) {
+			boolean white = i % 2 == 0;
+			int y = white ? 0 : 7;
+			int fromX = i % 4 < 2 ? 6 : 5;
+			int fromY = i % 4 < 2 ? y : (white ? 2 : 5);
+			int toX = i % 4 < 2 ? 5 : 6;
+			int toY = i % 4 < 2 ? (white ? 2 : 5) : y;
+			boardManager.performMove(new Coordinate(fromX, fromY), new Coordinate(toX, toY));
+		}
+		finished.set(true);
+		spectator.join();
+
+		// then
+		assertNull(error.get());
+		assertEquals(200, boardManager.getSnapshot().getMoveCount());
+	}
+
+}
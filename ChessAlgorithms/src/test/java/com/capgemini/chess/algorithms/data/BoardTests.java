@@ -4,9 +4,19 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.bitboard.PieceSquareTables;
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.data.pieces.Dragon;
+import com.capgemini.chess.algorithms.data.pieces.King;
+import com.capgemini.chess.algorithms.data.pieces.Knight;
+import com.capgemini.chess.algorithms.data.pieces.Pawn;
 import com.capgemini.chess.algorithms.data.pieces.Piece;
+import com.capgemini.chess.algorithms.data.pieces.Queen;
 import com.capgemini.chess.algorithms.data.pieces.Rook;
 
 public class BoardTests {
@@ -37,5 +47,463 @@ public class BoardTests {
 
 		assertEquals(new Rook(Color.WHITE), piece);
 	}
+	
+	@Test
+	public void shouldUpdateBitboardsWhenPieceIsSet() {
+		// given
+		Board board = new Board();
+		
+		// when
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(6, 7));
+		
+		// then
+		assertEquals(Bitboards.bit(0), board.getPieceBitboard(Color.WHITE, PieceType.ROOK));
+		assertEquals(Bitboards.bit(62), board.getPieceBitboard(Color.BLACK, PieceType.KNIGHT));
+		assertEquals(Bitboards.bit(62), board.getColorBitboard(Color.BLACK));
+		assertEquals(Bitboards.bit(0) | Bitboards.bit(62), board.getOccupancy());
+	}
+	
+	@Test
+	public void shouldUpdateBitboardsWhenPieceIsReplaced() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(3, 4));
+		
+		// when
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(3, 4));
+		board.setPieceAt(null, new Coordinate(3, 4));
+		
+		// then
+		assertEquals(0L, board.getPieceBitboard(Color.WHITE, PieceType.ROOK));
+		assertEquals(0L, board.getPieceBitboard(Color.BLACK, PieceType.KNIGHT));
+		assertEquals(0L, board.getOccupancy());
+		assertTrue(board.isEmpty(Bitboards.square(3, 4)));
+	}
+	
+	@Test
+	public void shouldRestoreCastlingWhenMoveIsTakenBack() {
+		// given
+		Board board = new Board();
+		Piece king = new King(Color.WHITE);
+		Piece rook = new Rook(Color.WHITE);
+		board.setPieceAt(king, new Coordinate(4, 0));
+		board.setPieceAt(rook, new Coordinate(7, 0));
+		long occupancy = board.getOccupancy();
+		
+		// when
+		board.makeMove(new Move(new Coordinate(4, 0), new Coordinate(6, 0), MoveType.CASTLING, king));
+		board.unmakeMove();
+		
+		// then
+		assertSame(king, board.getPieceAt(new Coordinate(4, 0)));
+		assertSame(rook, board.getPieceAt(new Coordinate(7, 0)));
+		assertFalse(board.isPieceMoved(new Coordinate(4, 0)));
+		assertFalse(board.isPieceMoved(new Coordinate(7, 0)));
+		assertEquals(Board.WHITE_KING_SIDE_CASTLING, board.getCastlingRights());
+		assertEquals(occupancy, board.getOccupancy());
+		assertTrue(board.getMoveHistory().isEmpty());
+	}
+	
+	@Test
+	public void shouldRestoreCapturedPawnWhenEnPassantIsTakenBack() {
+		// given
+		Board board = new Board();
+		Piece whitePawn = new Pawn(Color.WHITE);
+		Piece blackPawn = new Pawn(Color.BLACK);
+		board.setPieceAt(whitePawn, new Coordinate(1, 4));
+		board.setPieceAt(blackPawn, new Coordinate(2, 6));
+		board.makeMove(new Move(new Coordinate(2, 6), new Coordinate(2, 4), MoveType.MOVEMENT, blackPawn));
+		
+		// when
+		board.makeMove(new Move(new Coordinate(1, 4), new Coordinate(2, 5), MoveType.EN_PASSANT, whitePawn));
+		Piece pieceAfterCapture = board.getPieceAt(new Coordinate(2, 4));
+		board.unmakeMove();
+		
+		// then
+		assertNull(pieceAfterCapture);
+		assertSame(blackPawn, board.getPieceAt(new Coordinate(2, 4)));
+		assertSame(whitePawn, board.getPieceAt(new Coordinate(1, 4)));
+		assertNull(board.getPieceAt(new Coordinate(2, 5)));
+		assertEquals(1, board.getMoveHistory().size());
+	}
+	
+	@Test
+	public void shouldRestorePawnWhenPromotionIsTakenBack() {
+		// given
+		Board board = new Board();
+		Piece pawn = new Pawn(Color.WHITE);
+		Piece rook = new Rook(Color.BLACK);
+		board.setPieceAt(pawn, new Coordinate(0, 6));
+		board.setPieceAt(rook, new Coordinate(1, 7));
+		
+		// when
+		board.makeMove(new Move(new Coordinate(0, 6), new Coordinate(1, 7), MoveType.CAPTURE, pawn));
+		Piece promotedPiece = board.getPieceAt(new Coordinate(1, 7));
+		board.unmakeMove();
+		
+		// then
+		assertEquals(new Queen(Color.WHITE), promotedPiece);
+		assertSame(pawn, board.getPieceAt(new Coordinate(0, 6)));
+		assertSame(rook, board.getPieceAt(new Coordinate(1, 7)));
+		assertEquals(0L, board.getPieceBitboard(Color.WHITE, PieceType.QUEEN));
+	}
+	
+	@Test
+	public void shouldRestoreZobristKeyWhenMoveIsTakenBack() {
+		// given
+		Board board = new Board();
+		Piece knight = new Knight(Color.WHITE);
+		board.setPieceAt(knight, new Coordinate(1, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(4, 7));
+		long key = board.getZobristKey();
+		
+		// when
+		board.makeMove(new Move(new Coordinate(1, 0), new Coordinate(2, 2), MoveType.MOVEMENT, knight));
+		long keyAfterMove = board.getZobristKey();
+		board.unmakeMove();
+		
+		// then
+		assertNotEquals(key, keyAfterMove);
+		assertEquals(key, board.getZobristKey());
+	}
+	
+	@Test
+	public void shouldGetSameZobristKeyForTransposedMoves() {
+		// given
+		Board firstBoard = new Board();
+		Board secondBoard = new Board();
+		for (Board board : new Board[] { firstBoard, secondBoard }) {
+			board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
+			board.setPieceAt(new Knight(Color.WHITE), new Coordinate(6, 0));
+			board.setPieceAt(new Knight(Color.BLACK), new Coordinate(1, 7));
+		}
+		
+		// when
+		firstBoard.makeMove(new Move(new Coordinate(1, 0), new Coordinate(2, 2), MoveType.MOVEMENT, null));
+		firstBoard.makeMove(new Move(new Coordinate(1, 7), new Coordinate(2, 5), MoveType.MOVEMENT, null));
+		firstBoard.makeMove(new Move(new Coordinate(6, 0), new Coordinate(5, 2), MoveType.MOVEMENT, null));
+		secondBoard.makeMove(new Move(new Coordinate(6, 0), new Coordinate(5, 2), MoveType.MOVEMENT, null));
+		secondBoard.makeMove(new Move(new Coordinate(1, 7), new Coordinate(2, 5), MoveType.MOVEMENT, null));
+		secondBoard.makeMove(new Move(new Coordinate(1, 0), new Coordinate(2, 2), MoveType.MOVEMENT, null));
+		
+		// then
+		assertEquals(firstBoard.getZobristKey(), secondBoard.getZobristKey());
+	}
+	
+	@Test
+	public void shouldUpdateZobristKeyAsKeyOfLoadedPosition() {
+		// given
+		Board board = Fen.parse("r3k2r/8/8/8/3p4/8/4P3/R3K2R w KQkq - 0 1");
+		
+		// when
+		board.makeMove(new Move(new Coordinate(4, 1), new Coordinate(4, 3), MoveType.MOVEMENT,
+				board.getPieceAt(new Coordinate(4, 1))));
+		long keyAfterDoubleMove = board.getZobristKey();
+		String fenAfterDoubleMove = Fen.toFen(board);
+		board.makeMove(new Move(new Coordinate(4, 7), new Coordinate(6, 7), MoveType.CASTLING,
+				board.getPieceAt(new Coordinate(4, 7))));
+		
+		// then
+		assertEquals(Fen.parse(fenAfterDoubleMove).getZobristKey(), keyAfterDoubleMove);
+		assertEquals(Fen.parse(Fen.toFen(board)).getZobristKey(), board.getZobristKey());
+		board.unmakeMove();
+		assertEquals(keyAfterDoubleMove, board.getZobristKey());
+	}
+	
+	@Test
+	public void shouldNotAddPackedMoveToHistory() {
+		// given
+		Board board = new Board();
+		Piece pawn = new Pawn(Color.WHITE);
+		board.setPieceAt(pawn, new Coordinate(4, 1));
+		int move = PackedMove.pack(Bitboards.square(4, 1), Bitboards.square(4, 3), MoveType.MOVEMENT, PieceType.PAWN,
+				null, false);
+		
+		// when
+		board.makeMove(move);
+		Color sideToMove = board.getSideToMove();
+		int enPassantSquare = board.getEnPassantSquare();
+		board.unmakeMove();
+		
+		// then
+		assertTrue(board.getMoveHistory().isEmpty());
+		assertEquals(Color.BLACK, sideToMove);
+		assertEquals(Bitboards.square(4, 2), enPassantSquare);
+		assertEquals(Color.WHITE, board.getSideToMove());
+		assertSame(pawn, board.getPieceAt(new Coordinate(4, 1)));
+	}
+	
+	@Test
+	public void shouldConvertMoveToPackedMoveAndBack() {
+		// given
+		Board board = new Board();
+		Piece pawn = new Pawn(Color.WHITE);
+		board.setPieceAt(pawn, new Coordinate(0, 6));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(1, 7));
+		Move move = new Move(new Coordinate(0, 6), new Coordinate(1, 7), MoveType.CAPTURE, pawn);
+		
+		// when
+		int packedMove = PackedMove.fromMove(move, board);
+		Move unpackedMove = PackedMove.toMove(packedMove, board);
+		
+		// then
+		assertEquals(PieceType.PAWN, PackedMove.getMovedPiece(packedMove));
+		assertEquals(PieceType.ROOK, PackedMove.getCapturedPiece(packedMove));
+		assertTrue(PackedMove.isPromotion(packedMove));
+		assertEquals(move.getFrom(), unpackedMove.getFrom());
+		assertEquals(move.getTo(), unpackedMove.getTo());
+		assertEquals(MoveType.CAPTURE, unpackedMove.getType());
+		assertSame(pawn, unpackedMove.getMovedPiece());
+	}
+	
+	@Test
+	public void shouldTrackKingSquareWhenKingIsMoved() {
+		// given
+		Board board = new Board();
+		Piece king = new King(Color.WHITE);
+		board.setPieceAt(king, new Coordinate(4, 0));
+		
+		// when
+		board.makeMove(new Move(new Coordinate(4, 0), new Coordinate(4, 1), MoveType.MOVEMENT, king));
+		int squareAfterMove = board.getKingSquare(Color.WHITE);
+		board.unmakeMove();
+		
+		// then
+		assertEquals(Bitboards.square(4, 1), squareAfterMove);
+		assertEquals(Bitboards.square(4, 0), board.getKingSquare(Color.WHITE));
+		assertEquals(Bitboards.NO_SQUARE, board.getKingSquare(Color.BLACK));
+	}
+	
+	@Test
+	public void shouldKeepPieceListOrderWhenCaptureIsTakenBack() {
+		// given
+		Board board = new Board();
+		Piece rook = new Rook(Color.WHITE);
+		board.setPieceAt(rook, new Coordinate(0, 0));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(0, 5));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(3, 6));
+		
+		// when
+		board.makeMove(new Move(new Coordinate(0, 0), new Coordinate(0, 5), MoveType.CAPTURE, rook));
+		int whiteSquareAfterMove = board.getPieceSquare(Color.WHITE, 0);
+		int blackCountAfterMove = board.getPieceCount(Color.BLACK);
+		board.unmakeMove();
+		
+		// then
+		assertEquals(Bitboards.square(0, 5), whiteSquareAfterMove);
+		assertEquals(1, blackCountAfterMove);
+		assertEquals(Bitboards.square(0, 0), board.getPieceSquare(Color.WHITE, 0));
+		assertEquals(Bitboards.square(1, 0), board.getPieceSquare(Color.WHITE, 1));
+		assertEquals(2, board.getPieceCount(Color.BLACK));
+	}
+	
+	@Test
+	public void shouldRestorePlaceOfCapturedPieceOnPieceList() {
+		// given
+		Board board = Fen.parse("4k3/8/8/p2p3p/4P3/8/8/4K3 w - - 0 1");
+		int[] blackSquares = new int[board.getPieceCount(Color.BLACK)];
+		for (int i = 0; i < blackSquares.length; i++) {
+			blackSquares[i] = board.getPieceSquare(Color.BLACK, i);
+		}
+		
+		// when
+		board.makeMove(new Move(new Coordinate(4, 3), new Coordinate(3, 4), MoveType.CAPTURE,
+				board.getPieceAt(new Coordinate(4, 3))));
+		board.unmakeMove();
+		
+		// then
+		assertEquals(blackSquares.length, board.getPieceCount(Color.BLACK));
+		for (int i = 0; i < blackSquares.length; i++) {
+			assertEquals(blackSquares[i], board.getPieceSquare(Color.BLACK, i));
+		}
+	}
+	
+	@Test
+	public void shouldNotChangeOriginalBoardWhenMoveIsMadeOnCopy() {
+		// given
+		Board board = new Board();
+		Piece king = new King(Color.WHITE);
+		board.setPieceAt(king, new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		Board copy = board.generateCopy();
+		
+		// when
+		copy.makeMove(new Move(new Coordinate(4, 0), new Coordinate(4, 1), MoveType.MOVEMENT, king));
+		
+		// then
+		assertFalse(board.isPieceMoved(new Coordinate(4, 0)));
+		assertEquals(Board.WHITE_KING_SIDE_CASTLING, board.getCastlingRights());
+		assertSame(king, board.getPieceAt(new Coordinate(4, 0)));
+		assertEquals(0, copy.getCastlingRights());
+	}
+
+	@Test
+	public void shouldLoseCastlingRightWhenKingReturnsToStartField() {
+		// given
+		Board board = new Board();
+		Piece king = Piece.of(PieceType.KING, Color.WHITE);
+		board.setPieceAt(king, new Coordinate(4, 0));
+		board.setPieceAt(Piece.of(PieceType.ROOK, Color.WHITE), new Coordinate(0, 0));
+		
+		// when
+		board.makeMove(new Move(new Coordinate(4, 0), new Coordinate(4, 1), MoveType.MOVEMENT, king));
+		board.makeMove(new Move(new Coordinate(4, 1), new Coordinate(4, 0), MoveType.MOVEMENT, king));
+		
+		// then
+		assertTrue(board.isPieceMoved(new Coordinate(4, 0)));
+		assertFalse(board.isPieceMoved(new Coordinate(0, 0)));
+		assertEquals(0, board.getCastlingRights());
+	}
+	
+	@Test
+	public void shouldTreatPieceSetOutsideStartFieldAsMoved() {
+		// given
+		Board board = new Board();
+		
+		// when
+		board.setPieceAt(Piece.of(PieceType.KING, Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(Piece.of(PieceType.ROOK, Color.WHITE), new Coordinate(7, 1));
+		
+		// then
+		assertFalse(board.isPieceMoved(new Coordinate(4, 0)));
+		assertTrue(board.isPieceMoved(new Coordinate(7, 1)));
+		assertEquals(0, board.getCastlingRights());
+	}
+
+	@Test
+	public void shouldCountMovesAddedDirectlyToHistoryInHalfmoveClock() {
+		// given
+		Board board = new Board();
+		Piece king = Piece.of(PieceType.KING, Color.WHITE);
+		board.setPieceAt(king, new Coordinate(4, 0));
+		board.makeMove(new Move(new Coordinate(4, 0), new Coordinate(4, 1), MoveType.MOVEMENT, king));
+		
+		// when
+		board.getMoveHistory().add(new Move(new Coordinate(0, 7), new Coordinate(0, 6), MoveType.MOVEMENT,
+				Piece.of(PieceType.ROOK, Color.BLACK)));
+		int clockAfterAddedMove = board.getHalfmoveClock();
+		board.getMoveHistory().add(new Move(new Coordinate(0, 1), new Coordinate(0, 2), MoveType.MOVEMENT,
+				Piece.of(PieceType.PAWN, Color.WHITE)));
+		
+		// then
+		assertEquals(2, clockAfterAddedMove);
+		assertEquals(0, board.getHalfmoveClock());
+	}
+	
+	@Test
+	public void shouldRestoreRepetitionsWhenIrreversibleMoveIsTakenBack() {
+		// given
+		Board board = Fen.parse("4k3/8/8/8/8/8/8/R3K1N1 w Q - 0 1");
+		int[] knightShuffle = { Bitboards.square(6, 0), Bitboards.square(5, 2), Bitboards.square(4, 7),
+				Bitboards.square(3, 7), Bitboards.square(5, 2), Bitboards.square(6, 0), Bitboards.square(3, 7),
+				Bitboards.square(4, 7) };
+		for (int i = 0; i < knightShuffle.length; i += 2) {
+			board.makeMove(new Move(Coordinate.of(knightShuffle[i]), Coordinate.of(knightShuffle[i + 1]),
+					MoveType.MOVEMENT, board.getPieceAt(knightShuffle[i])));
+		}
+		int repetitionsBeforeRookMove = board.countRepetitions();
+		
+		// when
+		board.makeMove(new Move(new Coordinate(0, 0), new Coordinate(0, 1), MoveType.MOVEMENT,
+				board.getPieceAt(new Coordinate(0, 0))));
+		int repetitionsAfterRookMove = board.countRepetitions();
+		board.unmakeMove();
+		
+		// then
+		assertEquals(1, repetitionsBeforeRookMove);
+		assertEquals(0, repetitionsAfterRookMove);
+		assertEquals(1, board.countRepetitions());
+	}
+	
+	@Test
+	public void shouldCountRepetitionsSinceLastPawnMove() {
+		// given
+		Board board = Fen.parse("4k3/4p3/8/8/8/8/4P3/4K1N1 w - - 0 1");
+		int[] moves = { Bitboards.square(6, 0), Bitboards.square(5, 2), Bitboards.square(4, 7),
+				Bitboards.square(3, 7), Bitboards.square(5, 2), Bitboards.square(6, 0), Bitboards.square(3, 7),
+				Bitboards.square(4, 7), Bitboards.square(4, 1), Bitboards.square(4, 2), Bitboards.square(4, 6),
+				Bitboards.square(4, 5), Bitboards.square(6, 0), Bitboards.square(5, 2), Bitboards.square(4, 7),
+				Bitboards.square(3, 7), Bitboards.square(5, 2), Bitboards.square(6, 0), Bitboards.square(3, 7),
+				Bitboards.square(4, 7) };
+		
+		// when
+		int[] repetitions = new int[moves.length / 2];
+		for (int i = 0; i < moves.length; i += 2) {
+			board.makeMove(new Move(Coordinate.of(moves[i]), Coordinate.of(moves[i + 1]), MoveType.MOVEMENT,
+					board.getPieceAt(moves[i])));
+			repetitions[i / 2] = board.countRepetitions();
+		}
+		
+		// then
+		assertArrayEquals(new int[] { 0, 0, 0, 1, 0, 0, 0, 0, 0, 1 }, repetitions);
+		assertEquals(4, board.getHalfmoveClock());
+	}
+
+	
+	@Test
+	public void shouldGetEqualEvaluationForStartingPosition() {
+		// given
+		Board board = Fen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+		
+		// when
+		int evaluation = board.getEvaluation();
+		
+		// then
+		assertEquals(0, evaluation);
+	}
+	
+	@Test
+	public void shouldPreferCentralDragon() {
+		// given
+		Board centralDragonBoard = new Board();
+		centralDragonBoard.setPieceAt(new Dragon(Color.WHITE), new Coordinate(4, 3));
+		Board cornerDragonBoard = new Board();
+		cornerDragonBoard.setPieceAt(new Dragon(Color.WHITE), new Coordinate(0, 0));
+		
+		// when
+		int centralEvaluation = centralDragonBoard.getEvaluation();
+		int cornerEvaluation = cornerDragonBoard.getEvaluation();
+		
+		// then
+		assertTrue(cornerEvaluation > PieceSquareTables.pieceValue(PieceType.KNIGHT));
+		assertTrue(centralEvaluation > cornerEvaluation);
+	}
+	
+	@Test
+	public void shouldUpdateEvaluationIncrementally() {
+		// given
+		Board board = Fen.parse("r3k2r/1P6/8/3pP3/8/8/8/R3K2R w KQkq d6 0 1");
+		int evaluation = board.getEvaluation();
+		int[] moves = {
+				PackedMove.pack(Bitboards.square(1, 6), Bitboards.square(0, 7), MoveType.CAPTURE, board),
+				PackedMove.pack(Bitboards.square(4, 4), Bitboards.square(3, 5), MoveType.EN_PASSANT, board),
+				PackedMove.pack(Bitboards.square(4, 0), Bitboards.square(6, 0), MoveType.CASTLING, board) };
+		
+		for (int move : moves) {
+			// when
+			board.makeMove(move);
+			int evaluationAfterMove = board.getEvaluation();
+			int evaluationOfAllFields = evaluateAllFields(board);
+			board.unmakeMove();
+			
+			// then
+			assertEquals(PackedMove.toNotation(move), evaluationOfAllFields, evaluationAfterMove);
+			assertNotEquals(evaluation, evaluationAfterMove);
+			assertEquals(evaluation, board.getEvaluation());
+		}
+	}
+	
+	private static int evaluateAllFields(Board board) {
+		int evaluation = 0;
+		for (int square = 0; square < Bitboards.SQUARES; square++) {
+			Piece piece = board.getPieceAt(square);
+			if (piece != null) {
+				evaluation += PieceSquareTables.value(piece.getColor(), piece.getType(), square);
+			}
+		}
+		return evaluation;
+	}
 
 }
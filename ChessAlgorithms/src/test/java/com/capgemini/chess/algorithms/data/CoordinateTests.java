@@ -42,5 +42,26 @@ public class CoordinateTests {
 		assertEquals(1059,hashcode);
 	}
 	
+	@Test
+	public void shouldReturnSharedInstanceForFieldOnBoard() {
+		// when
+		Coordinate coordinate = Coordinate.of(3,5);
+		
+		// then
+		assertSame(coordinate, Coordinate.of(43));
+		assertEquals(new Coordinate(3,5), coordinate);
+		assertEquals(43, coordinate.getIndex());
+	}
+	
+	@Test
+	public void shouldReturnNoIndexForCoordinateOutsideBoard() {
+		// when
+		Coordinate coordinate = Coordinate.of(-1,5);
+		
+		// then
+		assertEquals(Coordinate.NO_INDEX, coordinate.getIndex());
+		assertEquals(-1, coordinate.getX());
+	}
+	
 
 }
@@ -0,0 +1,135 @@
+package com.capgemini.chess.algorithms.data;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+public class FenTests {
+
+	@Test
+	public void shouldWriteInitialPositionOfBoardManager() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		String fen = Fen.toFen(boardManager.getBoard());
+		
+		// then
+		assertEquals(Fen.INITIAL_POSITION, fen);
+	}
+	
+	@Test
+	public void shouldLoadSameZobristKeyAsInitialPositionOfBoardManager() {
+		// when
+		Board board = Fen.parse(Fen.INITIAL_POSITION);
+		
+		// then
+		assertEquals(new BoardManager().getBoard().getZobristKey(), board.getZobristKey());
+	}
+	
+	@Test
+	public void shouldParseAllFields() {
+		// given
+		String fen = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQK2R w Kq f6 0 3";
+		
+		// when
+		Board board = Fen.parse(fen);
+		
+		// then
+		assertEquals(Color.WHITE, board.getSideToMove());
+		assertEquals(Board.WHITE_KING_SIDE_CASTLING | Board.BLACK_QUEEN_SIDE_CASTLING, board.getCastlingRights());
+		assertEquals(Bitboards.square(5, 5), board.getEnPassantSquare());
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(3, board.getFullmoveNumber());
+		assertEquals(PieceType.PAWN, board.getPieceAt(new Coordinate(4, 4)).getType());
+		assertEquals(fen, Fen.toFen(board));
+	}
+	
+	@Test
+	public void shouldUpdateClocksAfterMoves() throws Exception {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/4P3/4K1N1 b - - 7 40");
+		
+		// when
+		boardManager.performMove(new Coordinate(4, 7), new Coordinate(3, 7));
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		String afterKnightMove = Fen.toFen(boardManager.getBoard());
+		boardManager.performMove(new Coordinate(3, 7), new Coordinate(4, 7));
+		boardManager.performMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		
+		// then
+		assertEquals("3k4/8/8/8/8/5N2/4P3/4K3 b - - 9 41", afterKnightMove);
+		assertEquals("4k3/8/8/8/4P3/5N2/8/4K3 b - e3 0 42", Fen.toFen(boardManager.getBoard()));
+	}
+	
+	@Test
+	public void shouldAllowEnPassantCaptureFromLoadedPosition() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/2pP4/8/8/4K3 b - d3 0 1");
+		
+		// when
+		boolean enPassantGenerated = false;
+		for (Move move : boardManager.generateLegalMoves(Color.BLACK)) {
+			enPassantGenerated |= move.getType() == MoveType.EN_PASSANT;
+		}
+		
+		// then
+		assertTrue(enPassantGenerated);
+	}
+	
+	@Test
+	public void shouldReuseBoardWhenLoadingPosition() {
+		// given
+		Board board = Fen.parse("4k3/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+		board.makeMove(new Move(new Coordinate(4, 0), new Coordinate(6, 0), MoveType.CASTLING, null));
+		
+		// when
+		Fen.load("8/8/8/8/8/8/8/K6k b - - 12 60", board);
+		
+		// then
+		assertEquals("8/8/8/8/8/8/8/K6k b - - 12 60", Fen.toFen(board));
+		assertTrue(board.getMoveHistory().isEmpty());
+		assertEquals(2, Long.bitCount(board.getOccupancy()));
+		assertEquals(Bitboards.square(0, 0), board.getKingSquare(Color.WHITE));
+	}
+	
+	@Test
+	public void shouldUseDefaultClocksWhenMissing() {
+		// when
+		Board board = Fen.parse("4k3/8/8/8/8/8/8/4K3 b - -");
+		
+		// then
+		assertEquals(Color.BLACK, board.getSideToMove());
+		assertEquals(0, board.getHalfmoveClock());
+		assertEquals(1, board.getFullmoveNumber());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectRowWithTooManyFields() {
+		Fen.parse("4k4/8/8/8/8/8/8/4K3 w - - 0 1");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnknownSideToMove() {
+		Fen.parse("4k3/8/8/8/8/8/8/4K3 x - - 0 1");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEnPassantFieldOnRowOfSideToMove() {
+		Fen.parse("4k3/8/8/8/4P3/8/3P1P2/4K3 w - e3 0 1");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEnPassantFieldWithoutPawnInFront() {
+		Fen.parse("4k3/8/8/8/3P4/8/8/4K3 b - e3 0 1");
+	}
+
+}
@@ -2,11 +2,12 @@ package com.capgemini.chess.algorithms.data;
 
 import static org.junit.Assert.*;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.pieces.King;
 import com.capgemini.chess.algorithms.data.pieces.Piece;
 import com.capgemini.chess.algorithms.data.pieces.Queen;
@@ -15,6 +16,17 @@ import com.capgemini.chess.algorithms.data.pieces.Rook;
 
 public class PieceTests {
 
+	@Test
+	public void shouldReturnSharedPieceOfTypeAndColor() {
+		// when
+		Piece whiteRook = Piece.of(PieceType.ROOK, Color.WHITE);
+		
+		// then
+		assertSame(whiteRook, Piece.of(PieceType.ROOK, Color.WHITE));
+		assertEquals(new Rook(Color.WHITE), whiteRook);
+		assertNotSame(whiteRook, Piece.of(PieceType.ROOK, Color.BLACK));
+	}
+
 	@Test
 	public void shouldNotBeEqualWhenDifferentColor() {
 		// given
@@ -84,7 +96,7 @@ public class PieceTests {
 		Piece blackRook = new Rook(Color.BLACK);
 		
 		// when
-		ArrayList<Path> capturePaths = blackRook.getCapturePaths();
+		List<Path> capturePaths = blackRook.getCapturePaths();
 		
 		// then
 		assertTrue(capturePaths.contains(new Path(-1,0,true)));
@@ -99,7 +111,7 @@ public class PieceTests {
 		Piece blackRook = new Rook(Color.BLACK);
 		
 		// when
-		ArrayList<Path> capturePaths = blackRook.getCapturePaths();
+		List<Path> capturePaths = blackRook.getCapturePaths();
 		
 		// then
 		assertFalse(capturePaths.contains(new Path(1,0,false)));
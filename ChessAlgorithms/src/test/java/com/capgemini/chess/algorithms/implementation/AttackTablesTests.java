@@ -0,0 +1,136 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.Dragon;
+import com.capgemini.chess.algorithms.data.pieces.Pawn;
+import com.capgemini.chess.algorithms.data.pieces.Queen;
+
+/**
+ * Test class for testing {@link AttackTables}
+ *
+ */
+public class AttackTablesTests {
+
+	@Test
+	public void shouldMatchRayWalkForRookAndBishopAttacks() {
+		// given
+		Random random = new Random(7);
+
+		for (int i = 0; i < 2000; i++) {
+			int square = random.nextInt(Bitboards.SQUARES);
+			long occupancy = random.nextLong() & random.nextLong();
+
+			// when
+			long rookAttacks = AttackTables.rookAttacks(square, occupancy);
+			long bishopAttacks = AttackTables.bishopAttacks(square, occupancy);
+
+			// then
+			assertEquals(walkRays(square, occupancy, new int[][] { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } }),
+					rookAttacks);
+			assertEquals(walkRays(square, occupancy, new int[][] { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } }),
+					bishopAttacks);
+		}
+	}
+
+	@Test
+	public void shouldReturnFieldsBetweenFieldsOnOneLine() {
+		// when
+		long fileFields = AttackTables.between(Bitboards.square(0, 0), Bitboards.square(0, 3));
+		long diagonalFields = AttackTables.between(Bitboards.square(2, 0), Bitboards.square(5, 3));
+		long adjacentFields = AttackTables.between(Bitboards.square(2, 0), Bitboards.square(3, 1));
+		long notAlignedFields = AttackTables.between(Bitboards.square(0, 0), Bitboards.square(1, 2));
+
+		// then
+		assertEquals(Bitboards.bit(Bitboards.square(0, 1)) | Bitboards.bit(Bitboards.square(0, 2)), fileFields);
+		assertEquals(Bitboards.bit(Bitboards.square(3, 1)) | Bitboards.bit(Bitboards.square(4, 2)), diagonalFields);
+		assertEquals(Bitboards.EMPTY, adjacentFields);
+		assertEquals(Bitboards.EMPTY, notAlignedFields);
+	}
+
+	@Test
+	public void shouldReturnKnightAttacksFromCorner() {
+		// when
+		long attacks = AttackTables.knightAttacks(Bitboards.square(0, 0));
+
+		// then
+		assertEquals(Bitboards.bit(Bitboards.square(1, 2)) | Bitboards.bit(Bitboards.square(2, 1)), attacks);
+	}
+
+	@Test
+	public void shouldReturnDragonMovesWithinThreeFields() {
+		// when
+		long centerMoves = AttackTables.dragonMoves(Bitboards.square(3, 3));
+		long cornerMoves = AttackTables.dragonMoves(Bitboards.square(0, 0));
+
+		// then
+		assertEquals(48, Long.bitCount(centerMoves));
+		assertEquals(15, Long.bitCount(cornerMoves));
+		assertEquals(8, Long.bitCount(AttackTables.dragonAttacks(Bitboards.square(3, 3))));
+	}
+
+	@Test
+	public void shouldDetectPawnAttackOnlyDiagonallyForward() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(3, 3));
+
+		// then
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(2, 4), Color.WHITE));
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(4, 4), Color.WHITE));
+		assertFalse(AttackTables.isSquareAttacked(board, Bitboards.square(3, 4), Color.WHITE));
+		assertFalse(AttackTables.isSquareAttacked(board, Bitboards.square(2, 2), Color.WHITE));
+		assertFalse(AttackTables.isSquareAttacked(board, Bitboards.square(2, 4), Color.BLACK));
+	}
+
+	@Test
+	public void shouldDetectQueenAttackBlockedByPiece() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(0, 7));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(0, 4));
+
+		// then
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(7, 7), Color.BLACK));
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(7, 0), Color.BLACK));
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(0, 4), Color.BLACK));
+		assertFalse(AttackTables.isSquareAttacked(board, Bitboards.square(0, 3), Color.BLACK));
+	}
+
+	@Test
+	public void shouldDetectDragonAttackOnlyOnNeighbourFields() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Dragon(Color.WHITE), new Coordinate(4, 2));
+
+		// then
+		assertTrue(AttackTables.isSquareAttacked(board, Bitboards.square(5, 3), Color.WHITE));
+		assertFalse(AttackTables.isSquareAttacked(board, Bitboards.square(7, 5), Color.WHITE));
+	}
+
+	private long walkRays(int square, long occupancy, int[][] directions) {
+		long attacks = 0;
+		for (int[] direction : directions) {
+			int x = Bitboards.x(square) + direction[0];
+			int y = Bitboards.y(square) + direction[1];
+			while (Bitboards.isInsideBoard(x, y)) {
+				attacks |= Bitboards.bit(Bitboards.square(x, y));
+				if (Bitboards.isSet(occupancy, Bitboards.square(x, y))) {
+					break;
+				}
+				x += direction[0];
+				y += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+}
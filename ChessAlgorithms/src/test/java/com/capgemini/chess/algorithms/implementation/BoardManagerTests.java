@@ -3,16 +3,24 @@ package com.capgemini.chess.algorithms.implementation;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
 import com.capgemini.chess.algorithms.data.Coordinate;
 import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
 import com.capgemini.chess.algorithms.data.enums.BoardState;
 import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.DrawCondition;
 import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.enums.MoveValidation;
+import com.capgemini.chess.algorithms.data.enums.PieceType;
 import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.BoardSnapshot;
 import com.capgemini.chess.algorithms.data.pieces.Bishop;
 import com.capgemini.chess.algorithms.data.pieces.Dragon;
 import com.capgemini.chess.algorithms.data.pieces.King;
@@ -262,6 +270,21 @@ public class BoardManagerTests {
 		assertEquals(new Queen(Color.WHITE), move.getMovedPiece());
 	}
 	
+	@Test
+	public void shouldPerformMoveQueenMovementAlongFile() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(3, 0));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		Move move = boardManager.performMove(new Coordinate(3, 0), new Coordinate(3, 6));
+		
+		// then
+		assertEquals(MoveType.MOVEMENT, move.getType());
+		assertEquals(new Queen(Color.WHITE), move.getMovedPiece());
+	}
+	
 	@Test
 	public void shouldPerformMoveRookCapture() throws InvalidMoveException {
 		// given
@@ -830,26 +853,26 @@ public class BoardManagerTests {
 		List<Move> moves = new ArrayList<>();
 		for (int i = 0; i < 2; i++) {
 			Move move1 = new Move();
-			move1.setFrom(new Coordinate(5, 1));
-			move1.setTo(new Coordinate(5, 3));
+			move1.setFrom(new Coordinate(6, 0));
+			move1.setTo(new Coordinate(5, 2));
 			move1.setType(MoveType.MOVEMENT);
 			moves.add(move1);
 			
 			Move move2 = new Move();
-			move2.setFrom(new Coordinate(5, 6));
-			move2.setTo(new Coordinate(5, 4));
+			move2.setFrom(new Coordinate(6, 7));
+			move2.setTo(new Coordinate(5, 5));
 			move2.setType(MoveType.MOVEMENT);
 			moves.add(move2);
 			
 			Move move3 = new Move();
-			move3.setFrom(new Coordinate(5, 3));
-			move3.setTo(new Coordinate(5, 1));
+			move3.setFrom(new Coordinate(5, 2));
+			move3.setTo(new Coordinate(6, 0));
 			move3.setType(MoveType.MOVEMENT);
 			moves.add(move3);
 			
 			Move move4 = new Move();
-			move4.setFrom(new Coordinate(5, 4));
-			move4.setTo(new Coordinate(5, 6));
+			move4.setFrom(new Coordinate(5, 5));
+			move4.setTo(new Coordinate(6, 7));
 			move4.setType(MoveType.MOVEMENT);
 			moves.add(move4);
 		}
@@ -867,26 +890,26 @@ public class BoardManagerTests {
 		// given
 		List<Move> moves = new ArrayList<>();
 		Move move1 = new Move();
-		move1.setFrom(new Coordinate(5, 1));
-		move1.setTo(new Coordinate(5, 3));
+		move1.setFrom(new Coordinate(6, 0));
+		move1.setTo(new Coordinate(5, 2));
 		move1.setType(MoveType.MOVEMENT);
 		moves.add(move1);
 		
 		Move move2 = new Move();
-		move2.setFrom(new Coordinate(5, 6));
-		move2.setTo(new Coordinate(5, 4));
+		move2.setFrom(new Coordinate(6, 7));
+		move2.setTo(new Coordinate(5, 5));
 		move2.setType(MoveType.MOVEMENT);
 		moves.add(move2);
 		
 		Move move3 = new Move();
-		move3.setFrom(new Coordinate(5, 3));
-		move3.setTo(new Coordinate(5, 1));
+		move3.setFrom(new Coordinate(5, 2));
+		move3.setTo(new Coordinate(6, 0));
 		move3.setType(MoveType.MOVEMENT);
 		moves.add(move3);
 		
 		Move move4 = new Move();
-		move4.setFrom(new Coordinate(5, 4));
-		move4.setTo(new Coordinate(5, 6));
+		move4.setFrom(new Coordinate(5, 5));
+		move4.setTo(new Coordinate(6, 7));
 		move4.setType(MoveType.MOVEMENT);
 		moves.add(move4);
 		BoardManager boardManager = new BoardManager(moves);
@@ -898,6 +921,26 @@ public class BoardManagerTests {
 		assertFalse(isThreefoldRepetition);
 	}
 	
+	@Test
+	public void shouldCheckThreefoldRepetitionRuleForPerformedKnightMoves() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		boolean repetitionBeforeLastMove = false;
+		for (int i = 0; i < 2; i++) {
+			boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			repetitionBeforeLastMove = boardManager.checkThreefoldRepetitionRule();
+			boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+		}
+		
+		// then
+		assertFalse(repetitionBeforeLastMove);
+		assertTrue(boardManager.checkThreefoldRepetitionRule());
+	}
+	
 	@Test
 	public void shouldCheckFiftyMoveRuleSuccessful() {
 		// given
@@ -955,6 +998,276 @@ public class BoardManagerTests {
 		assertFalse(areFiftyMoves);
 	}
 	
+	@Test
+	public void shouldCheckFiftyMoveRuleWithHalfmoveClockOfLoadedPosition() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/4K1N1 w - - 99 70");
+		
+		// when
+		boolean fiftyMovesBeforeMove = boardManager.checkFiftyMoveRule();
+		boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+		
+		// then
+		assertFalse(fiftyMovesBeforeMove);
+		assertTrue(boardManager.checkFiftyMoveRule());
+	}
+	
+	@Test
+	public void shouldEvaluateRepetitionDrawConditions() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		Set<DrawCondition> drawConditionsAfterFirstCycle = null;
+		for (int i = 0; i < 4; i++) {
+			boardManager.performMove(new Coordinate(6, 0), new Coordinate(5, 2));
+			boardManager.performMove(new Coordinate(6, 7), new Coordinate(5, 5));
+			boardManager.performMove(new Coordinate(5, 2), new Coordinate(6, 0));
+			boardManager.performMove(new Coordinate(5, 5), new Coordinate(6, 7));
+			if (i == 0) {
+				drawConditionsAfterFirstCycle = boardManager.evaluateDrawConditions();
+			}
+		}
+		
+		// then
+		assertTrue(drawConditionsAfterFirstCycle.isEmpty());
+		assertEquals(EnumSet.of(DrawCondition.THREEFOLD_REPETITION, DrawCondition.FIVEFOLD_REPETITION),
+				boardManager.evaluateDrawConditions());
+	}
+	
+	@Test
+	public void shouldEvaluateMoveRuleDrawConditions() throws InvalidMoveException {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/8/R3K3 w - - 149 100");
+		
+		// when
+		boardManager.performMove(new Coordinate(0, 0), new Coordinate(0, 1));
+		
+		// then
+		assertEquals(EnumSet.of(DrawCondition.FIFTY_MOVE_RULE, DrawCondition.SEVENTY_FIVE_MOVE_RULE),
+				boardManager.evaluateDrawConditions());
+	}
+	
+	@Test
+	public void shouldEvaluateInsufficientMaterial() {
+		// given
+		BoardManager kingAndBishop = new BoardManager("8/8/4k3/8/8/3BK3/8/8 w - - 0 1");
+		BoardManager kingAndTwoKnights = new BoardManager("8/8/4k3/8/8/3NK1N1/8/8 w - - 0 1");
+		BoardManager kingAndDragon = new BoardManager("8/8/4k3/8/8/3DK3/8/8 w - - 0 1");
+		
+		// then
+		assertEquals(EnumSet.of(DrawCondition.INSUFFICIENT_MATERIAL), kingAndBishop.evaluateDrawConditions());
+		assertTrue(kingAndTwoKnights.evaluateDrawConditions().isEmpty());
+		assertTrue(kingAndDragon.evaluateDrawConditions().isEmpty());
+	}
+	
+	@Test
+	public void shouldGetExceptionForPerformMoveWhenInvalidPawnDoubleMoveDestination() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		boolean exceptionThrown = false;
+		try {
+			boardManager.performMove(new Coordinate(4, 1), new Coordinate(0, 4));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+		
+		// then 
+		assertTrue(exceptionThrown);
+	}
+	
+	@Test
+	public void shouldGetExceptionForPerformMoveWhenInvalidQueenSideCastlingWithPiecesBetween() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		boolean exceptionThrown = false;
+		try {
+			boardManager.performMove(new Coordinate(4, 0), new Coordinate(2, 0));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+		
+		// then 
+		assertTrue(exceptionThrown);
+	}
+	
+	@Test
+	public void shouldGetExceptionFromIncorrectRowPerformMoveEnPassant() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 2));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		
+		// when
+		boolean exceptionThrown = false;
+		try {
+			boardManager.performMove(new Coordinate(1, 2), new Coordinate(2, 5));
+		} catch (InvalidMoveException e) {
+			exceptionThrown = true;
+		}
+			
+		// then
+		assertTrue(exceptionThrown);
+	}
+	
+	@Test
+	public void shouldGenerateLegalMovesInInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		
+		// when
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		assertEquals(20, moves.size());
+	}
+	
+	@Test
+	public void shouldGeneratePackedLegalMovesIntoReusedList() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		MoveList moves = new MoveList();
+		moves.add(PackedMove.NONE);
+		
+		// when
+		boardManager.generateLegalMoves(Color.WHITE, moves);
+		
+		// then
+		assertEquals(20, moves.size());
+		assertFalse(moves.contains(PackedMove.NONE));
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+	}
+	
+	@Test
+	public void shouldGenerateCastlingAndEnPassant() throws InvalidMoveException {
+		// given
+		Board board = new Board();
+		BoardManager boardManager = new BoardManager(board);
+		
+		board.getMoveHistory().add(createDummyMove(board));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new Pawn(Color.WHITE), new Coordinate(1, 4));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(2, 6));
+		boardManager.performMove(new Coordinate(2, 6), new Coordinate(2, 4));
+		
+		// when
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		assertTrue(containsMove(moves, new Coordinate(4, 0), new Coordinate(6, 0), MoveType.CASTLING));
+		assertTrue(containsMove(moves, new Coordinate(1, 4), new Coordinate(2, 5), MoveType.EN_PASSANT));
+	}
+	
+	@Test
+	public void shouldNotGenerateMovesLeavingKingInCheck() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Bishop(Color.WHITE), new Coordinate(4, 5));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		assertEquals(5, moves.size());
+		for (Move move : moves) {
+			assertEquals(new King(Color.WHITE), move.getMovedPiece());
+		}
+	}
+	
+	@Test
+	public void shouldNotMovePinnedDragonPastPinningPiece() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Dragon(Color.WHITE), new Coordinate(4, 2));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 6));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		int dragonMoves = 0;
+		for (Move move : moves) {
+			if (move.getMovedPiece().getType() == PieceType.DRAGON) {
+				dragonMoves++;
+				assertEquals(4, move.getTo().getX());
+				assertTrue(move.getTo().getY() < 6);
+			}
+		}
+		assertEquals(4, dragonMoves);
+	}
+	
+	@Test
+	public void shouldBlockCheckWithDragon() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Dragon(Color.WHITE), new Coordinate(1, 3));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		int dragonMoves = 0;
+		for (Move move : moves) {
+			if (move.getMovedPiece().getType() == PieceType.DRAGON) {
+				dragonMoves++;
+				assertEquals(4, move.getTo().getX());
+			}
+		}
+		assertEquals(6, dragonMoves);
+		assertEquals(MoveValidation.VALID, boardManager.checkMove(new Coordinate(1, 3), new Coordinate(4, 3)));
+		assertEquals(MoveValidation.KING_IN_CHECK, boardManager.checkMove(new Coordinate(1, 3), new Coordinate(3, 3)));
+	}
+	
+	@Test
+	public void shouldMoveOnlyKingInDoubleCheck() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Queen(Color.WHITE), new Coordinate(0, 2));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Knight(Color.BLACK), new Coordinate(3, 2));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		List<Move> moves = boardManager.generateLegalMoves(Color.WHITE);
+		
+		// then
+		assertFalse(moves.isEmpty());
+		for (Move move : moves) {
+			assertEquals(new King(Color.WHITE), move.getMovedPiece());
+		}
+	}
+	
+	private boolean containsMove(List<Move> moves, Coordinate from, Coordinate to, MoveType type) {
+		for (Move move : moves) {
+			if (move.getFrom().equals(from) && move.getTo().equals(to) && move.getType() == type) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
 	private Move createDummyMove(Board board) {
 		
 		Move move = new Move();
@@ -1057,5 +1370,95 @@ public class BoardManagerTests {
 		assertTrue(exceptionThrown);		
 	}
 	
+	@Test
+	public void shouldCheckMoveWithoutPerformingIt() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 1));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		board.setPieceAt(new Knight(Color.WHITE), new Coordinate(1, 0));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		
+		// then
+		assertEquals(MoveValidation.VALID, boardManager.checkMove(new Coordinate(4, 1), new Coordinate(4, 5)));
+		assertEquals(MoveValidation.INCORRECT_START_POSITION, boardManager.checkMove(new Coordinate(8, 1), new Coordinate(4, 5)));
+		assertEquals(MoveValidation.INCORRECT_FINAL_POSITION, boardManager.checkMove(new Coordinate(4, 1), new Coordinate(4, -1)));
+		assertEquals(MoveValidation.NO_PIECE_AT_START_POSITION, boardManager.checkMove(new Coordinate(0, 0), new Coordinate(0, 1)));
+		assertEquals(MoveValidation.NOT_YOUR_PIECE, boardManager.checkMove(new Coordinate(4, 7), new Coordinate(4, 6)));
+		assertEquals(MoveValidation.CAPTURE_OF_OWN_PIECE, boardManager.checkMove(new Coordinate(4, 0), new Coordinate(4, 1)));
+		assertEquals(MoveValidation.PIECE_CANNOT_MOVE_THERE, boardManager.checkMove(new Coordinate(1, 0), new Coordinate(1, 1)));
+		assertEquals(MoveValidation.KING_IN_CHECK, boardManager.checkMove(new Coordinate(4, 1), new Coordinate(0, 1)));
+		assertEquals(new Rook(Color.WHITE), board.getPieceAt(new Coordinate(4, 1)));
+		assertEquals(0, board.getMoveHistory().size());
+	}
+	
+	@Test
+	public void shouldTryMove() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 1));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		MoveValidation invalid = boardManager.tryMove(new Coordinate(4, 1), new Coordinate(0, 1));
+		MoveValidation valid = boardManager.tryMove(new Coordinate(4, 1), new Coordinate(4, 7));
+		
+		// then
+		assertEquals(MoveValidation.KING_IN_CHECK, invalid);
+		assertEquals(MoveValidation.VALID, valid);
+		assertEquals(1, board.getMoveHistory().size());
+		assertEquals(MoveType.CAPTURE, board.getMoveHistory().get(0).getType());
+		assertEquals(new Rook(Color.WHITE), board.getPieceAt(new Coordinate(4, 7)));
+		assertNull(board.getPieceAt(new Coordinate(4, 1)));
+	}
+	
+	@Test
+	public void shouldMakeMoveWithoutHistoryAndSnapshot() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		BoardSnapshot snapshot = boardManager.getSnapshot();
+		
+		// when
+		MoveValidation invalid = boardManager.makeMove(new Coordinate(4, 1), new Coordinate(4, 4));
+		MoveValidation valid = boardManager.makeMove(new Coordinate(4, 1), new Coordinate(4, 3));
+		
+		// then
+		assertEquals(MoveValidation.PIECE_CANNOT_MOVE_THERE, invalid);
+		assertEquals(MoveValidation.VALID, valid);
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+		assertEquals(Color.BLACK, boardManager.getBoard().getSideToMove());
+		assertSame(snapshot, boardManager.getSnapshot());
+		assertEquals(BoardState.REGULAR, boardManager.updateBoardState());
+		assertNotSame(snapshot, boardManager.getSnapshot());
+	}
+	
+	@Test
+	public void shouldGetExceptionWithoutStackTraceForInvalidMove() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(4, 0));
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(4, 1));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(4, 7));
+		
+		// when
+		BoardManager boardManager = new BoardManager(board);
+		InvalidMoveException exception = null;
+		try {
+			boardManager.performMove(new Coordinate(4, 1), new Coordinate(0, 1));
+		} catch (InvalidMoveException e) {
+			exception = e;
+		}
+		
+		// then
+		assertTrue(exception instanceof KingInCheckException);
+		assertEquals("Invalid move! King must not be checked!", exception.getMessage());
+		assertEquals(0, exception.getStackTrace().length);
+	}
+	
 	
 }
@@ -4,6 +4,18 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.capgemini.chess.algorithms.book.OpeningBookTests;
+import com.capgemini.chess.algorithms.pgn.PgnReaderTests;
+import com.capgemini.chess.algorithms.pgn.PgnValidatorTests;
+import com.capgemini.chess.algorithms.pgn.PgnWriterTests;
+import com.capgemini.chess.algorithms.pgn.SanNotationTests;
+import com.capgemini.chess.algorithms.search.MoveOrdererTests;
+import com.capgemini.chess.algorithms.search.ParallelSearchTests;
+import com.capgemini.chess.algorithms.search.SearchEngineTests;
+import com.capgemini.chess.algorithms.search.TranspositionTableTests;
+import com.capgemini.chess.algorithms.validation.BatchValidatorTests;
+import com.capgemini.chess.algorithms.validation.GameValidatorTests;
+
 /**
  * Test suite containing all tests
  *
@@ -11,7 +23,10 @@ import org.junit.runners.Suite.SuiteClasses;
  *
  */
 @RunWith(Suite.class)
-@SuiteClasses({ BoardManagerTests.class })
+@SuiteClasses({ BoardManagerTests.class, AttackTablesTests.class, PerftTests.class, SearchEngineTests.class,
+		TranspositionTableTests.class, ParallelSearchTests.class, SanNotationTests.class, PgnReaderTests.class,
+		PgnWriterTests.class, PgnValidatorTests.class, GameValidatorTests.class, BatchValidatorTests.class,
+		MoveOrdererTests.class, StaticExchangeTests.class, OpeningBookTests.class })
 public class ChessTestSuite {
 
 }
@@ -0,0 +1,92 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Perft regression tests. Node counts of standard positions are compared
+ * with known values. Only depths without promotions are used, because pawns
+ * are always promoted to queen.
+ *
+ */
+public class PerftTests {
+
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+	private static final Object[][] TRICKY_POSITIONS = {
+			// castling which gives check
+			{ "5k2/8/8/8/8/8/8/4K2R w K - 0 1", 6, 661072L },
+			{ "3k4/8/8/8/8/8/8/R3K3 w Q - 0 1", 6, 803711L },
+			// double check
+			{ "8/8/2k5/5q2/5n2/8/5K2/8 b - - 0 1", 4, 23527L } };
+	private static final String ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+	@Test
+	public void shouldCountNodesOfInitialPosition() {
+		// given
+		Perft perft = new Perft(new BoardManager());
+
+		// then
+		assertEquals(1, perft.perft(0));
+		assertEquals(20, perft.perft(1));
+		assertEquals(400, perft.perft(2));
+		assertEquals(8902, perft.perft(3));
+		assertEquals(197281, perft.perft(4));
+	}
+
+	@Test
+	public void shouldCountNodesOfKiwipete() {
+		// given
+		Perft perft = new Perft(new BoardManager(KIWIPETE));
+
+		// then
+		assertEquals(48, perft.perft(1));
+		assertEquals(2039, perft.perft(2));
+		assertEquals(97862, perft.perft(3));
+	}
+
+	@Test
+	public void shouldCountNodesOfEndgamePosition() {
+		// given
+		Perft perft = new Perft(new BoardManager(ENDGAME));
+
+		// then
+		assertEquals(14, perft.perft(1));
+		assertEquals(191, perft.perft(2));
+		assertEquals(2812, perft.perft(3));
+		assertEquals(43238, perft.perft(4));
+	}
+
+	@Test
+	public void shouldDivideNodesOfInitialPosition() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		Perft perft = new Perft(boardManager);
+		long key = boardManager.getBoard().getZobristKey();
+
+		// when
+		PerftResult result = perft.divide(3);
+
+		// then
+		assertEquals(20, result.getMoveNodes().size());
+		assertEquals(600, result.getMoveNodes().get("e2e4").longValue());
+		assertEquals(8902, result.getNodes());
+		assertTrue(result.toString().contains("Nodes: 8902"));
+		assertEquals(key, boardManager.getBoard().getZobristKey());
+	}
+
+	@Test
+	public void shouldCountNodesOfTrickyPositions() {
+		for (Object[] position : TRICKY_POSITIONS) {
+			// given
+			Perft perft = new Perft(new BoardManager((String) position[0]));
+
+			// when
+			long nodes = perft.perft((Integer) position[1]);
+
+			// then
+			assertEquals((String) position[0], ((Long) position[2]).longValue(), nodes);
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.capgemini.chess.algorithms.implementation;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+
+/**
+ * Test class for testing static exchange evaluation of {@link BoardManager}
+ *
+ */
+public class StaticExchangeTests {
+
+	@Test
+	public void shouldWinUndefendedPawn() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3p4/8/8/8/3RK3 w - - 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(3, 0), new Coordinate(3, 4));
+
+		// then
+		assertEquals(100, gain);
+	}
+
+	@Test
+	public void shouldLoseRookForPawnDefendedByPawn() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/4p3/3p4/8/8/8/3RK3 w - - 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(3, 0), new Coordinate(3, 4));
+
+		// then
+		assertEquals(-400, gain);
+	}
+
+	@Test
+	public void shouldCountRookBehindRookAsAttacker() {
+		// given
+		BoardManager boardManager = new BoardManager("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(3, 1), new Coordinate(3, 4));
+
+		// then
+		assertEquals(100, gain);
+	}
+
+	@Test
+	public void shouldNotRecaptureWithKingOnDefendedField() {
+		// given
+		BoardManager boardManager = new BoardManager("8/8/8/3k4/4p3/8/5N2/4QK2 w - - 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(4, 0), new Coordinate(4, 3));
+
+		// then
+		assertEquals(100, gain);
+	}
+
+	@Test
+	public void shouldRecaptureWithAdjacentDragon() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3p4/2d5/8/8/3RK3 w - - 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(3, 0), new Coordinate(3, 4));
+
+		// then
+		assertEquals(-400, gain);
+	}
+
+	@Test
+	public void shouldWinPawnCapturedEnPassant() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1");
+
+		// when
+		int gain = boardManager.staticExchangeEvaluation(new Coordinate(4, 4), new Coordinate(3, 5));
+
+		// then
+		assertEquals(100, gain);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldGetExceptionForEmptyStartField() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3p4/8/8/8/3RK3 w - - 0 1");
+
+		// when
+		boardManager.staticExchangeEvaluation(new Coordinate(0, 0), new Coordinate(3, 4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldGetExceptionForStartFieldOutsideBoard() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3p4/8/8/8/3RK3 w - - 0 1");
+
+		// when
+		boardManager.staticExchangeEvaluation(new Coordinate(3, -1), new Coordinate(3, 4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldGetExceptionForTargetFieldOutsideBoard() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/3p4/8/8/8/3RK3 w - - 0 1");
+
+		// when
+		boardManager.staticExchangeEvaluation(new Coordinate(3, 0), new Coordinate(8, 4));
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PgnReaderTests {
+
+	private static final String GAMES = "[Event \"Casual \\\"blitz\\\"\"]\n"
+			+ "[White \"\u0141ukasz\"]\n"
+			+ "[Result \"1-0\"]\n"
+			+ "\n"
+			+ "1. e4 {best by test} e5 2. Nf3 (2. f4 exf4 (2... d5)) Nc6 $1 3.Bb5!? a6\n"
+			+ "; line comment 4. d4\n"
+			+ "4. Ba4 Nf6 5. O-O 1-0\n"
+			+ "\n"
+			+ "[Event \"No result\"]\n"
+			+ "\n"
+			+ "1. d4 d5\n"
+			+ "[Event \"Black starts\"]\n"
+			+ "[FEN \"4k3/8/8/8/8/8/4P3/4K3 b - - 0 12\"]\n"
+			+ "\n"
+			+ "12... Kd7 13. e4 1/2-1/2\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadTagsMovesAndResults() throws Exception {
+		// given
+		File file = write(GAMES);
+
+		// when
+		List<PgnGame> games = readAll(file, 64 * 1024);
+
+		// then
+		assertEquals(3, games.size());
+		PgnGame first = games.get(0);
+		assertEquals(1, first.getNumber());
+		assertEquals("Casual \"blitz\"", first.getTag("Event"));
+		assertEquals("\u0141ukasz", first.getTag("White"));
+		assertEquals(Arrays.asList("e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4", "Nf6", "O-O"), first.getMoves());
+		assertEquals("1-0", first.getResult());
+		assertEquals(Arrays.asList("d4", "d5"), games.get(1).getMoves());
+		assertEquals(PgnGame.UNKNOWN_RESULT, games.get(1).getResult());
+		assertEquals("4k3/8/8/8/8/8/4P3/4K3 b - - 0 12", games.get(2).getFen());
+		assertEquals(Arrays.asList("Kd7", "e4"), games.get(2).getMoves());
+		assertEquals("1/2-1/2", games.get(2).getResult());
+	}
+
+	@Test
+	public void shouldReadGamesAcrossMappedWindows() throws Exception {
+		// given
+		File file = write(GAMES);
+
+		// when
+		List<PgnGame> games = readAll(file, 7);
+
+		// then
+		assertEquals(3, games.size());
+		assertEquals(9, games.get(0).getMoves().size());
+		assertEquals("\u0141ukasz", games.get(0).getTag("White"));
+		assertEquals("1/2-1/2", games.get(2).getResult());
+	}
+
+	@Test
+	public void shouldReadCastlingWrittenWithZerosAndSuffix() throws Exception {
+		// given
+		File file = write("1. e4 e5 2. Nf3 Nc6 3. Bc4 Bc5 4. 0-0+ d6 5. d3 Bg4 6. Nc3 Qd7 7. a3 0-0-0# 8. 0-0!? *\n");
+
+		// when
+		List<PgnGame> games = readAll(file, 1024);
+
+		// then
+		assertEquals(1, games.size());
+		assertEquals(Arrays.asList("e4", "e5", "Nf3", "Nc6", "Bc4", "Bc5", "0-0+", "d6", "d3", "Bg4", "Nc3", "Qd7", "a3",
+				"0-0-0#", "0-0"), games.get(0).getMoves());
+		assertEquals(PgnGame.UNKNOWN_RESULT, games.get(0).getResult());
+	}
+
+	@Test
+	public void shouldReadNoGamesFromEmptyFile() throws Exception {
+		// given
+		File file = write("");
+
+		// when
+		List<PgnGame> games = readAll(file, 1024);
+
+		// then
+		assertTrue(games.isEmpty());
+	}
+
+	private File write(String text) throws IOException {
+		File file = folder.newFile("games.pgn");
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static List<PgnGame> readAll(File file, int windowSize) throws IOException {
+		List<PgnGame> games = new ArrayList<>();
+		try (PgnReader reader = new PgnReader(file.toPath(), windowSize)) {
+			reader.readGames(games::add);
+		}
+		return games;
+	}
+
+}
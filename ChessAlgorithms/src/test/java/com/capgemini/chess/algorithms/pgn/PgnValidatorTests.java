@@ -0,0 +1,76 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.generated.Fen;
+
+public class PgnValidatorTests {
+
+	@Test
+	public void shouldValidateLegalGame() {
+		// given
+		PgnGame game = game(null, "e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Bxc6", "dxc6", "O-O");
+
+		// when
+		PgnValidationResult result = new PgnValidator().validate(game);
+
+		// then
+		assertTrue(result.isValid());
+		assertEquals(9, result.getPlyCount());
+	}
+
+	@Test
+	public void shouldReportIllegalMove() {
+		// given
+		PgnGame game = game(null, "e4", "e5", "Ke3");
+
+		// when
+		PgnValidationResult result = new PgnValidator().validate(game);
+
+		// then
+		assertFalse(result.isValid());
+		assertEquals(2, result.getPlyCount());
+		assertTrue(result.getError().contains("Ke3"));
+	}
+
+	@Test
+	public void shouldReuseBoardForNextGame() {
+		// given
+		PgnValidator validator = new PgnValidator();
+		validator.validate(game(null, "e4", "e5", "Qh5", "Nc6", "Bc4", "Nf6", "Qxf7#"));
+
+		// when
+		PgnValidationResult result = validator.validate(game("4k3/8/8/8/8/8/4P3/4K3 b - - 0 12", "Kd7", "e4"));
+
+		// then
+		assertTrue(result.isValid());
+		assertEquals("8/3k4/8/8/4P3/8/8/4K3 b - e3 0 13", Fen.toFen(validator.getBoard()));
+	}
+
+	@Test
+	public void shouldReportInvalidStartPosition() {
+		// given
+		PgnGame game = game("8/8/8 w - - 0 1", "e4");
+
+		// when
+		PgnValidationResult result = new PgnValidator().validate(game);
+
+		// then
+		assertFalse(result.isValid());
+		assertEquals(0, result.getPlyCount());
+	}
+
+	private static PgnGame game(String fen, String... moves) {
+		PgnGame game = new PgnGame(1);
+		if (fen != null) {
+			game.setTag("FEN", fen);
+		}
+		for (String move : moves) {
+			game.addMove(move);
+		}
+		return game;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.*;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class PgnWriterTests {
+
+	@Test
+	public void shouldWriteTagsAndNumberedMoves() throws Exception {
+		// given
+		PgnGame game = new PgnGame();
+		game.setTag("Event", "Say \"hi\"");
+		for (String move : new String[] { "e4", "e5", "Qh5", "Nc6", "Bc4", "Nf6", "Qxf7#" }) {
+			game.addMove(move);
+		}
+		game.setResult("1-0");
+		StringWriter out = new StringWriter();
+
+		// when
+		new PgnWriter(out).write(game);
+
+		// then
+		assertEquals("[Event \"Say \\\"hi\\\"\"]\n\n1. e4 e5 2. Qh5 Nc6 3. Bc4 Nf6 4. Qxf7# 1-0\n\n", out.toString());
+	}
+
+	@Test
+	public void shouldStartNumberingFromFenPosition() throws Exception {
+		// given
+		PgnGame game = new PgnGame();
+		game.setTag("FEN", "4k3/8/8/8/8/8/4P3/4K3 b - - 0 12");
+		game.addMove("Kd7");
+		game.addMove("e4");
+		StringWriter out = new StringWriter();
+
+		// when
+		new PgnWriter(out).write(game);
+
+		// then
+		assertTrue(out.toString().endsWith("\n\n12... Kd7 13. e4 *\n\n"));
+	}
+
+	@Test
+	public void shouldWrapLongMovetext() throws Exception {
+		// given
+		PgnGame game = new PgnGame();
+		for (int i = 0; i < 40; i++) {
+			game.addMove(i % 4 < 2 ? "Nf3" : "Ng1");
+		}
+		StringWriter out = new StringWriter();
+
+		// when
+		new PgnWriter(out).write(game);
+
+		// then
+		for (String line : out.toString().split("\n")) {
+			assertTrue(line.length() <= 80);
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.capgemini.chess.algorithms.pgn;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+public class SanNotationTests {
+
+	@Test
+	public void shouldDecodePawnAndPieceMoves() {
+		// given
+		MoveList legalMoves = legalMoves(new BoardManager());
+
+		// then
+		assertEquals("e2e4", PackedMove.toNotation(SanNotation.decode("e4", legalMoves)));
+		assertEquals("g1f3", PackedMove.toNotation(SanNotation.decode("Nf3!", legalMoves)));
+		assertEquals(PackedMove.NONE, SanNotation.decode("e5", legalMoves));
+		assertEquals(PackedMove.NONE, SanNotation.decode("Bc4", legalMoves));
+	}
+
+	@Test
+	public void shouldDecodeDisambiguatedMoves() {
+		// given
+		MoveList legalMoves = legalMoves(new BoardManager("4k3/8/8/8/8/8/R6R/N3K1N1 w - - 0 1"));
+
+		// then
+		assertEquals(PackedMove.NONE, SanNotation.decode("Rd2", legalMoves));
+		assertEquals("a2d2", PackedMove.toNotation(SanNotation.decode("Rad2", legalMoves)));
+		assertEquals("h2d2", PackedMove.toNotation(SanNotation.decode("Rhd2", legalMoves)));
+		assertEquals("g1e2", PackedMove.toNotation(SanNotation.decode("Ne2", legalMoves)));
+	}
+
+	@Test
+	public void shouldDecodeCastlingPromotionAndEnPassant() {
+		// given
+		MoveList castlingMoves = legalMoves(new BoardManager("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1"));
+		MoveList pawnMoves = legalMoves(new BoardManager("4k3/1P6/8/3pP3/8/8/8/4K3 w - d6 0 1"));
+
+		// then
+		int kingSide = SanNotation.decode("O-O", castlingMoves);
+		assertEquals(MoveType.CASTLING, PackedMove.getType(kingSide));
+		assertEquals("e1g1", PackedMove.toNotation(kingSide));
+		assertEquals("e1c1", PackedMove.toNotation(SanNotation.decode("0-0-0+", castlingMoves)));
+		assertEquals("b7b8", PackedMove.toNotation(SanNotation.decode("b8=Q+", pawnMoves)));
+		assertEquals(PackedMove.NONE, SanNotation.decode("b8=N", pawnMoves));
+		assertEquals(MoveType.EN_PASSANT, PackedMove.getType(SanNotation.decode("exd6", pawnMoves)));
+	}
+
+	@Test
+	public void shouldNotDecodePawnCaptureWrittenAsPawnMove() {
+		// given
+		MoveList legalMoves = legalMoves(new BoardManager("4k3/8/8/8/4p3/3P4/8/4K3 w - - 0 1"));
+
+		// then
+		assertEquals(PackedMove.NONE, SanNotation.decode("e4", legalMoves));
+		assertEquals("d3e4", PackedMove.toNotation(SanNotation.decode("dxe4", legalMoves)));
+		assertEquals("d3d4", PackedMove.toNotation(SanNotation.decode("d4", legalMoves)));
+		assertEquals(PackedMove.NONE, SanNotation.decode("dxd4", legalMoves));
+		assertEquals(PackedMove.NONE, SanNotation.decode("Kxd2", legalMoves));
+	}
+
+	@Test
+	public void shouldEncodeMovesWithDisambiguationAndCheck() {
+		// given
+		BoardManager boardManager = new BoardManager("4k3/8/8/8/8/8/R6R/N3K1N1 w - - 0 1");
+		MoveList legalMoves = legalMoves(boardManager);
+
+		// then
+		assertEquals("Rad2", encode("Rad2", boardManager, legalMoves));
+		assertEquals("Ra8+", encode("Ra8", boardManager, legalMoves));
+		assertEquals("Ne2", encode("Ne2", boardManager, legalMoves));
+		assertEquals("4k3/8/8/8/8/8/R6R/N3K1N1 w - - 0 1", Fen.toFen(boardManager.getBoard()));
+	}
+
+	@Test
+	public void shouldEncodeMate() {
+		// given
+		BoardManager boardManager = new BoardManager("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+		MoveList legalMoves = legalMoves(boardManager);
+
+		// then
+		assertEquals("Ra8#", encode("Ra8", boardManager, legalMoves));
+	}
+
+	private static String encode(String san, BoardManager boardManager, MoveList legalMoves) {
+		return SanNotation.encode(SanNotation.decode(san, legalMoves), boardManager, legalMoves);
+	}
+
+	private static MoveList legalMoves(BoardManager boardManager) {
+		MoveList legalMoves = new MoveList();
+		boardManager.generateLegalMoves(boardManager.getBoard().getSideToMove(), legalMoves);
+		return legalMoves;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.MoveList;
+import com.capgemini.chess.algorithms.data.PackedMove;
+import com.capgemini.chess.algorithms.data.bitboard.Bitboards;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.enums.MoveType;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.generated.Fen;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link MoveOrderer}
+ *
+ */
+public class MoveOrdererTests {
+
+	private static final String POSITION = "4k3/8/8/Q2q4/4P3/8/8/4K3 w - - 0 1";
+
+	@Test
+	public void shouldOrderHashMoveFirstAndCapturesByVictimAndAttacker() {
+		// given
+		Board board = Fen.parse(POSITION);
+		MoveList moves = generateMoves(board);
+		int hashMove = PackedMove.pack(Bitboards.square(0, 4), Bitboards.square(0, 5), MoveType.MOVEMENT, board);
+		int pawnCapture = PackedMove.pack(Bitboards.square(4, 3), Bitboards.square(3, 4), MoveType.CAPTURE, board);
+		int queenCapture = PackedMove.pack(Bitboards.square(0, 4), Bitboards.square(3, 4), MoveType.CAPTURE, board);
+		MoveOrderer moveOrderer = new MoveOrderer(4);
+		moveOrderer.startSearch();
+
+		// when
+		moveOrderer.scoreMoves(moves, 0, hashMove, Color.WHITE);
+
+		// then
+		assertEquals(hashMove, moveOrderer.nextMove(moves, 0, 0));
+		assertEquals(pawnCapture, moveOrderer.nextMove(moves, 0, 1));
+		assertEquals(queenCapture, moveOrderer.nextMove(moves, 0, 2));
+		assertFalse(PackedMove.isCapture(moveOrderer.nextMove(moves, 0, 3)));
+	}
+
+	@Test
+	public void shouldOrderKillerMovesAfterCapturesAndBeforeHistoryMoves() {
+		// given
+		Board board = Fen.parse(POSITION);
+		MoveList moves = generateMoves(board);
+		int killerMove = PackedMove.pack(Bitboards.square(0, 4), Bitboards.square(0, 6), MoveType.MOVEMENT, board);
+		int historyMove = PackedMove.pack(Bitboards.square(4, 0), Bitboards.square(5, 0), MoveType.MOVEMENT, board);
+		MoveOrderer moveOrderer = new MoveOrderer(4);
+		moveOrderer.startSearch();
+		moveOrderer.recordCutoff(historyMove, 2, 3, Color.WHITE);
+		moveOrderer.recordCutoff(killerMove, 1, 1, Color.WHITE);
+
+		// when
+		moveOrderer.scoreMoves(moves, 1, PackedMove.NONE, Color.WHITE);
+
+		// then
+		assertTrue(PackedMove.isCapture(moveOrderer.nextMove(moves, 1, 0)));
+		assertTrue(PackedMove.isCapture(moveOrderer.nextMove(moves, 1, 1)));
+		assertEquals(killerMove, moveOrderer.nextMove(moves, 1, 2));
+		assertEquals(historyMove, moveOrderer.nextMove(moves, 1, 3));
+		assertEquals(9, moveOrderer.getHistoryScore(historyMove, Color.WHITE));
+		assertEquals(0, moveOrderer.getHistoryScore(historyMove, Color.BLACK));
+	}
+
+	@Test
+	public void shouldNotRememberCaptureAsKillerMove() {
+		// given
+		Board board = Fen.parse(POSITION);
+		int capture = PackedMove.pack(Bitboards.square(4, 3), Bitboards.square(3, 4), MoveType.CAPTURE, board);
+		MoveOrderer moveOrderer = new MoveOrderer(4);
+		moveOrderer.startSearch();
+
+		// when
+		moveOrderer.recordCutoff(capture, 1, 3, Color.WHITE);
+
+		// then
+		assertEquals(PackedMove.NONE, moveOrderer.getKiller(1, 0));
+		assertEquals(0, moveOrderer.getHistoryScore(capture, Color.WHITE));
+	}
+
+	@Test
+	public void shouldClearKillersAndAgeHistoryForNextSearch() {
+		// given
+		Board board = Fen.parse(POSITION);
+		int move = PackedMove.pack(Bitboards.square(4, 0), Bitboards.square(5, 0), MoveType.MOVEMENT, board);
+		MoveOrderer moveOrderer = new MoveOrderer(4);
+		moveOrderer.startSearch();
+		moveOrderer.recordCutoff(move, 1, 4, Color.WHITE);
+
+		// when
+		moveOrderer.startSearch();
+
+		// then
+		assertEquals(PackedMove.NONE, moveOrderer.getKiller(1, 0));
+		assertEquals(8, moveOrderer.getHistoryScore(move, Color.WHITE));
+	}
+
+	private static MoveList generateMoves(Board board) {
+		MoveList moves = new MoveList();
+		new BoardManager(board).generateLegalMoves(board.getSideToMove(), moves);
+		return moves;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.King;
+import com.capgemini.chess.algorithms.data.pieces.Pawn;
+import com.capgemini.chess.algorithms.data.pieces.Rook;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link ParallelSearch}
+ *
+ */
+public class ParallelSearchTests {
+
+	@Test
+	public void shouldFindMateInOneWithManyThreads() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(6, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(6, 7));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(5, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(6, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(7, 6));
+		ParallelSearch parallelSearch = new ParallelSearch(new BoardManager(board), 4, new TranspositionTable(1));
+
+		// when
+		SearchResult result = parallelSearch.search(new SearchLimits(4, 0, 0));
+		parallelSearch.shutdown();
+
+		// then
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(SearchEngine.MATE_SCORE - 1, result.getScore());
+	}
+
+	@Test
+	public void shouldNotModifyBoardOfBoardManager() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		long key = boardManager.getBoard().getZobristKey();
+		ParallelSearch parallelSearch = new ParallelSearch(boardManager, 2, new TranspositionTable(1));
+
+		// when
+		SearchResult result = parallelSearch.search(new SearchLimits(3, 0, 0));
+		parallelSearch.shutdown();
+
+		// then
+		assertNotNull(result.getBestMove());
+		assertEquals(3, result.getDepth());
+		assertEquals(key, boardManager.getBoard().getZobristKey());
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+	}
+
+	@Test
+	public void shouldMeasureSpeedupForDoubledThreadCounts() {
+		// when
+		List<SpeedupMeasurement> measurements = ParallelSearch.measureSpeedup(new BoardManager(), 4, 3, 1);
+
+		// then
+		assertEquals(3, measurements.size());
+		assertEquals(1, measurements.get(0).getThreadCount());
+		assertEquals(2, measurements.get(1).getThreadCount());
+		assertEquals(4, measurements.get(2).getThreadCount());
+		assertEquals(1.0, measurements.get(0).getSpeedup(), 0.0);
+		assertTrue(measurements.get(2).getNodes() > 0);
+	}
+
+}
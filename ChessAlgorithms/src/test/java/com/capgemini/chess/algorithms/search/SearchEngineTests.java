@@ -0,0 +1,120 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.Color;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.data.pieces.King;
+import com.capgemini.chess.algorithms.data.pieces.Pawn;
+import com.capgemini.chess.algorithms.data.pieces.Queen;
+import com.capgemini.chess.algorithms.data.pieces.Rook;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link SearchEngine}
+ *
+ */
+public class SearchEngineTests {
+
+	@Test
+	public void shouldFindMateInOne() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(6, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(6, 7));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(5, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(6, 6));
+		board.setPieceAt(new Pawn(Color.BLACK), new Coordinate(7, 6));
+		SearchEngine searchEngine = new SearchEngine(new BoardManager(board));
+
+		// when
+		SearchResult result = searchEngine.search(new SearchLimits(4, 0, 0));
+
+		// then
+		assertEquals(new Coordinate(0, 0), result.getBestMove().getFrom());
+		assertEquals(new Coordinate(0, 7), result.getBestMove().getTo());
+		assertEquals(SearchEngine.MATE_SCORE - 1, result.getScore());
+		assertTrue(result.isMateScore());
+	}
+
+	@Test
+	public void shouldCaptureUndefendedQueen() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.WHITE), new Coordinate(0, 0));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(7, 1));
+		board.setPieceAt(new Queen(Color.BLACK), new Coordinate(0, 5));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		SearchEngine searchEngine = new SearchEngine(new BoardManager(board));
+
+		// when
+		SearchResult result = searchEngine.search(new SearchLimits(3, 0, 0));
+
+		// then
+		assertEquals(new Coordinate(0, 5), result.getBestMove().getTo());
+		assertEquals(3, result.getDepth());
+		assertTrue(result.getScore() > 0);
+	}
+
+	@Test
+	public void shouldReturnNoMoveWhenCheckMated() {
+		// given
+		Board board = new Board();
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(0, 0));
+		board.setPieceAt(new Rook(Color.BLACK), new Coordinate(1, 1));
+		board.setPieceAt(new King(Color.WHITE), new Coordinate(7, 0));
+		board.setPieceAt(new King(Color.BLACK), new Coordinate(7, 7));
+		SearchEngine searchEngine = new SearchEngine(new BoardManager(board));
+
+		// when
+		SearchResult result = searchEngine.search(new SearchLimits());
+
+		// then
+		assertNull(result.getBestMove());
+		assertEquals(-SearchEngine.MATE_SCORE, result.getScore());
+	}
+
+	@Test
+	public void shouldStopAtNodeLimitAndRestoreBoard() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		long key = boardManager.getBoard().getZobristKey();
+		SearchEngine searchEngine = new SearchEngine(boardManager);
+
+		// when
+		SearchResult result = searchEngine.search(new SearchLimits(SearchLimits.MAX_DEPTH, 0, 20000));
+
+		// then
+		Move bestMove = result.getBestMove();
+		assertNotNull(bestMove);
+		assertTrue(result.getDepth() >= 1);
+		assertTrue(result.getDepth() < SearchLimits.MAX_DEPTH);
+		assertTrue(result.getNodes() <= 20000);
+		assertEquals(Color.WHITE, bestMove.getMovedPiece().getColor());
+		assertEquals(key, boardManager.getBoard().getZobristKey());
+		assertTrue(boardManager.getBoard().getMoveHistory().isEmpty());
+	}
+
+	@Test
+	public void shouldCountFirstMoveCutoffs() {
+		// given
+		BoardManager boardManager = new BoardManager();
+		SearchEngine searchEngine = new SearchEngine(boardManager);
+
+		// when
+		SearchResult result = searchEngine.search(new SearchLimits(4, 0, 0));
+
+		// then
+		assertTrue(result.getCutoffs() > 0);
+		assertTrue(result.getFirstMoveCutoffs() > 0);
+		assertTrue(result.getFirstMoveCutoffs() <= result.getCutoffs());
+		assertEquals((double) result.getFirstMoveCutoffs() / result.getCutoffs(), result.getFirstMoveCutoffRate(),
+				1e-9);
+	}
+
+}
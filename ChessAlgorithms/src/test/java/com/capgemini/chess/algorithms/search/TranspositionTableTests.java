@@ -0,0 +1,91 @@
+package com.capgemini.chess.algorithms.search;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+
+/**
+ * Test class for testing {@link TranspositionTable}
+ *
+ */
+public class TranspositionTableTests {
+
+	@Test
+	public void shouldReturnStoredEntry() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+
+		// when
+		table.store(0x1234_5678_9ABCL, 7, TranspositionTable.LOWER_BOUND, -350, 0x1F_FFFF);
+		long entry = table.probe(0x1234_5678_9ABCL);
+
+		// then
+		assertEquals(7, TranspositionTable.getDepth(entry));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(entry));
+		assertEquals(-350, TranspositionTable.getScore(entry));
+		assertEquals(0x1F_FFFF, TranspositionTable.getMove(entry));
+		assertEquals(1, table.getHits());
+	}
+
+	@Test
+	public void shouldCountMissForUnknownPosition() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		table.store(1L, 3, TranspositionTable.EXACT, 0, 0);
+
+		// when
+		long entry = table.probe(2L);
+
+		// then
+		assertEquals(TranspositionTable.NO_ENTRY, entry);
+		assertEquals(1, table.getProbes());
+		assertEquals(0.0, table.getHitRate(), 0.0);
+	}
+
+	@Test
+	public void shouldKeepDeeperEntryAndAlwaysReplaceSecondSlot() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		long buckets = table.getCapacity() / 2;
+		long deepKey = 5L;
+		long firstShallowKey = 5L + buckets;
+		long secondShallowKey = 5L + 2 * buckets;
+
+		// when
+		table.store(deepKey, 10, TranspositionTable.EXACT, 1, 0);
+		table.store(firstShallowKey, 2, TranspositionTable.EXACT, 2, 0);
+		table.store(secondShallowKey, 3, TranspositionTable.EXACT, 3, 0);
+
+		// then
+		assertEquals(1, TranspositionTable.getScore(table.probe(deepKey)));
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(firstShallowKey));
+		assertEquals(3, TranspositionTable.getScore(table.probe(secondShallowKey)));
+		assertEquals(1, table.getOverwrites());
+	}
+
+	@Test
+	public void shouldRoundSizeDownToPowerOfTwo() {
+		// when
+		TranspositionTable table = new TranspositionTable(3);
+
+		// then
+		assertEquals(2 * 1024 * 1024 / 16, table.getCapacity());
+	}
+
+	@Test
+	public void shouldBeUsedBySearch() {
+		// given
+		TranspositionTable table = new TranspositionTable(1);
+		SearchEngine searchEngine = new SearchEngine(new BoardManager(), table);
+
+		// when
+		searchEngine.search(new SearchLimits(4, 0, 0));
+
+		// then
+		assertTrue(table.getStores() > 0);
+		assertTrue(table.getHits() > 0);
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.capgemini.chess.algorithms.validation;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+public class BatchValidatorTests {
+
+	@Test
+	public void shouldValidateAllGamesInParallel() {
+		// given
+		List<List<Move>> games = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String notation = i % 10 == 0 ? GameValidatorTests.ILLEGAL_GAME
+					: i % 2 == 0 ? GameValidatorTests.SCHOLARS_MATE : GameValidatorTests.KNIGHT_SHUFFLE;
+			games.add(GameValidatorTests.moves(notation));
+		}
+		Map<Integer, GameValidationResult> results = new ConcurrentHashMap<>();
+		BatchValidator validator = new BatchValidator(4);
+
+		// when
+		BatchValidationReport report = validator.validate(games, result -> results.put(result.getGameIndex(), result));
+		validator.shutdown();
+
+		// then
+		assertEquals(100, report.getGameCount());
+		assertEquals(10, report.getInvalidGameCount());
+		assertEquals(90, report.getValidGameCount());
+		assertEquals(10 * 2 + 40 * 7 + 50 * 8, report.getPlyCount());
+		assertEquals(100, results.size());
+		assertFalse(results.get(0).isValid());
+		assertEquals(BoardState.CHECK_MATE, results.get(2).getBoardState());
+		assertTrue(results.get(3).isThreefoldRepetition());
+	}
+
+}
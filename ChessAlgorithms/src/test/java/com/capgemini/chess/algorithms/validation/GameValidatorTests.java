@@ -0,0 +1,85 @@
+package com.capgemini.chess.algorithms.validation;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.capgemini.chess.algorithms.data.Coordinate;
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+
+public class GameValidatorTests {
+
+	static final String SCHOLARS_MATE = "e2e4 e7e5 d1h5 b8c6 f1c4 g8f6 h5f7";
+	static final String KNIGHT_SHUFFLE = "g1f3 g8f6 f3g1 f6g8 g1f3 g8f6 f3g1 f6g8";
+	static final String ILLEGAL_GAME = "e2e4 e7e5 e1e3";
+
+	@Test
+	public void shouldReportMate() {
+		// when
+		GameValidationResult result = new GameValidator().validate(0, moves(SCHOLARS_MATE));
+
+		// then
+		assertTrue(result.isValid());
+		assertEquals(7, result.getPlyCount());
+		assertEquals(BoardState.CHECK_MATE, result.getBoardState());
+		assertFalse(result.isThreefoldRepetition());
+	}
+
+	@Test
+	public void shouldReportThreefoldRepetition() {
+		// when
+		GameValidationResult result = new GameValidator().validate(0, moves(KNIGHT_SHUFFLE));
+
+		// then
+		assertTrue(result.isValid());
+		assertEquals(BoardState.REGULAR, result.getBoardState());
+		assertTrue(result.isThreefoldRepetition());
+		assertFalse(result.isFiftyMoveRule());
+	}
+
+	@Test
+	public void shouldReportFailureReason() {
+		// when
+		GameValidationResult result = new GameValidator().validate(3, moves(ILLEGAL_GAME));
+
+		// then
+		assertFalse(result.isValid());
+		assertEquals(3, result.getGameIndex());
+		assertEquals(2, result.getPlyCount());
+		assertTrue(result.getFailureReason().startsWith("Move 3 e1-e3: Invalid move!"));
+		assertNull(result.getBoardState());
+	}
+
+	@Test
+	public void shouldResetBoardBeforeEveryGame() {
+		// given
+		GameValidator validator = new GameValidator();
+		validator.validate(0, moves(SCHOLARS_MATE));
+
+		// when
+		GameValidationResult result = validator.validate(1, moves(KNIGHT_SHUFFLE));
+
+		// then
+		assertTrue(result.isValid());
+		assertEquals(8, result.getPlyCount());
+	}
+
+	/**
+	 * Creates moves from coordinate notation, for example "e2e4 e7e5"
+	 */
+	static List<Move> moves(String notation) {
+		List<Move> moves = new ArrayList<>();
+		for (String move : notation.split(" ")) {
+			Move parsedMove = new Move();
+			parsedMove.setFrom(Coordinate.of(move.charAt(0) - 'a', move.charAt(1) - '1'));
+			parsedMove.setTo(Coordinate.of(move.charAt(2) - 'a', move.charAt(3) - '1'));
+			moves.add(parsedMove);
+		}
+		return moves;
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.capgemini.chess.algorithms.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.validation.BatchValidationReport;
+import com.capgemini.chess.algorithms.validation.BatchValidator;
+
+/**
+ * Benchmark of validation of a corpus of games with {@link BatchValidator},
+ * compared with replaying every game with a new {@link BoardManager}.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchValidationBenchmark {
+
+	private static final int GAME_COUNT = 200;
+	private static final int PLIES = 80;
+
+	@Param({ "1", "4" })
+	private int threads;
+
+	private List<List<Move>> games;
+	private BatchValidator batchValidator;
+
+	@Setup
+	public void setUp() {
+		games = GameGenerator.generateGames(GAME_COUNT, PLIES);
+		batchValidator = new BatchValidator(threads);
+	}
+
+	@TearDown
+	public void tearDown() {
+		batchValidator.shutdown();
+	}
+
+	@Benchmark
+	public BatchValidationReport validateBatch() {
+		return batchValidator.validate(games, result -> {
+		});
+	}
+
+	/**
+	 * Replays and validates every game on a new board in the calling thread,
+	 * which is the baseline for {@link #validateBatch()}
+	 */
+	@Benchmark
+	public int validateSequentially() throws Exception {
+		int plies = 0;
+		for (List<Move> game : games) {
+			BoardManager boardManager = new BoardManager();
+			for (Move move : game) {
+				boardManager.performMove(move.getFrom(), move.getTo());
+				plies++;
+			}
+			boardManager.updateBoardState();
+		}
+		return plies;
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.capgemini.chess.algorithms.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.data.enums.BoardState;
+import com.capgemini.chess.algorithms.data.generated.Board;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Benchmarks of {@link BoardManager} and {@link Board} operations on a board
+ * with game history of given length, so growth of the cost with history
+ * length can be compared.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardManagerBenchmark {
+
+	@Param({ "10", "100", "500" })
+	private int plies;
+
+	private List<Move> history;
+	private Move nextMove;
+	private BoardManager boardManager;
+
+	@Setup
+	public void setUp() {
+		List<Move> game = GameGenerator.generateGame(plies + 1);
+		history = new ArrayList<>(game.subList(0, plies));
+		nextMove = game.get(plies);
+		boardManager = new BoardManager(history);
+	}
+
+	/**
+	 * Validates and performs the next move of the game. Move is taken back,
+	 * so every invocation starts from the same position.
+	 */
+	@Benchmark
+	public Move performMove() throws InvalidMoveException {
+		Move move = boardManager.performMove(nextMove.getFrom(), nextMove.getTo());
+		boardManager.getBoard().unmakeMove();
+		return move;
+	}
+
+	@Benchmark
+	public BoardState updateBoardState() {
+		return boardManager.updateBoardState();
+	}
+
+	@Benchmark
+	public boolean checkThreefoldRepetitionRule() {
+		return boardManager.checkThreefoldRepetitionRule();
+	}
+
+	@Benchmark
+	public boolean checkFiftyMoveRule() {
+		return boardManager.checkFiftyMoveRule();
+	}
+
+	@Benchmark
+	public Board generateCopy() {
+		return boardManager.getBoard().generateCopy();
+	}
+
+	@Benchmark
+	public BoardManager replayGame() {
+		return new BoardManager(history);
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.capgemini.chess.algorithms.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.capgemini.chess.algorithms.data.Move;
+import com.capgemini.chess.algorithms.implementation.BoardManager;
+import com.capgemini.chess.algorithms.implementation.exceptions.InvalidMoveException;
+
+/**
+ * Generator of games used as benchmark input. Games are played with random
+ * legal moves from a fixed seed, so every run benchmarks the same games.
+ *
+ */
+final class GameGenerator {
+
+	private GameGenerator() {
+	}
+
+	/**
+	 * Generates game of given length. Games which end with mate or stalemate
+	 * too early are discarded and next seed is tried.
+	 *
+	 * @param plies number of moves in the game
+	 * @return moves of the game
+	 */
+	static List<Move> generateGame(int plies) {
+		return generateGames(1, plies).get(0);
+	}
+
+	/**
+	 * Generates different games of given length
+	 *
+	 * @param count number of games
+	 * @param plies number of moves in every game
+	 * @return moves of the games
+	 */
+	static List<List<Move>> generateGames(int count, int plies) {
+		List<List<Move>> games = new ArrayList<>(count);
+		for (long seed = 1; games.size() < count; seed++) {
+			List<Move> moves = tryGenerateGame(plies, new Random(seed));
+			if (moves != null) {
+				games.add(moves);
+			}
+		}
+		return games;
+	}
+
+	private static List<Move> tryGenerateGame(int plies, Random random) {
+		BoardManager boardManager = new BoardManager();
+		List<Move> moves = new ArrayList<>();
+		while (moves.size() < plies) {
+			List<Move> legalMoves = boardManager.generateLegalMoves(boardManager.getBoard().getSideToMove());
+			if (legalMoves.isEmpty()) {
+				return null;
+			}
+			Move move = legalMoves.get(random.nextInt(legalMoves.size()));
+			try {
+				moves.add(boardManager.performMove(move.getFrom(), move.getTo()));
+			} catch (InvalidMoveException e) {
+				throw new IllegalStateException("Generated move was rejected", e);
+			}
+		}
+		return moves;
+	}
+
+}